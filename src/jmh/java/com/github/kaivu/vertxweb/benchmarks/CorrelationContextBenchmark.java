@@ -0,0 +1,72 @@
+package com.github.kaivu.vertxweb.benchmarks;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-request cost of building and serializing a {@link CorrelationContext}.
+ *
+ * <p>Every HTTP request creates one context (two random IDs and a timestamp) and every
+ * event-bus hop serializes it with {@code toJson} and rebuilds it with {@code fromJson}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CorrelationContextBenchmark {
+
+    private CorrelationContext context;
+    private JsonObject contextJson;
+
+    @Setup
+    public void setUp() {
+        context = CorrelationContext.create()
+                .withSourceIp("10.0.0.12")
+                .withUserAgent("Mozilla/5.0 (X11; Linux x86_64)")
+                .withUserId("user-42")
+                .withTenantId("tenant-7");
+        contextJson = context.toJson();
+    }
+
+    @Benchmark
+    public CorrelationContext create() {
+        return CorrelationContext.create();
+    }
+
+    @Benchmark
+    public CorrelationContext createEnriched() {
+        return CorrelationContext.create()
+                .withSourceIp("10.0.0.12")
+                .withUserAgent("Mozilla/5.0 (X11; Linux x86_64)")
+                .withUserId("user-42")
+                .withTenantId("tenant-7");
+    }
+
+    @Benchmark
+    public CorrelationContext createChild() {
+        return context.createChild("analytics-report");
+    }
+
+    @Benchmark
+    public JsonObject toJson() {
+        return context.toJson();
+    }
+
+    @Benchmark
+    public CorrelationContext fromJson() {
+        return CorrelationContext.fromJson(contextJson);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.kaivu.vertxweb.benchmarks;
+
+import com.github.kaivu.vertxweb.json.DataFormat;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import com.github.kaivu.vertxweb.models.Product;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the negotiable response formats on a {@code GET /api/products}-shaped document of 100
+ * products: encoding from the records, encoding from {@code JsonObject} maps, and decoding into a
+ * {@code JsonObject} as {@code RouterHelper.validateRequestBody} does.
+ *
+ * <p>The encoded size of each format is reported as the {@code encodedBytes} secondary metric of
+ * {@link #payloadSize}, next to the timings in the JMH results.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=DataFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class DataFormatBenchmark {
+
+    private static final int PRODUCT_COUNT = 100;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private DataFormat format;
+
+    private JsonObject recordsDocument;
+    private JsonObject mapsDocument;
+    private Buffer encoded;
+
+    @Setup
+    public void setUp() {
+        Instant createdAt = Instant.parse("2024-01-01T10:00:00Z");
+        List<Product> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 1; i <= PRODUCT_COUNT; i++) {
+            products.add(new Product(
+                    i,
+                    "Product " + i,
+                    "Category " + (i % 7),
+                    9.99 + i,
+                    "Description of product " + i,
+                    i * 3,
+                    createdAt,
+                    null));
+        }
+        recordsDocument = document(new JsonArray(products));
+        encoded = JsonBuffers.encode(recordsDocument, format);
+        mapsDocument = JsonBuffers.decode(JsonBuffers.encode(recordsDocument), JsonBuffers::readObject);
+    }
+
+    /**
+     * Size of the encoded document, reported by JMH as a counter rather than a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long encodedBytes;
+    }
+
+    @Benchmark
+    public Buffer payloadSize(PayloadSize payload) {
+        Buffer buffer = JsonBuffers.encode(recordsDocument, format);
+        payload.encodedBytes = buffer.length();
+        return buffer;
+    }
+
+    @Benchmark
+    public Buffer encodeRecords() {
+        return JsonBuffers.encode(recordsDocument, format);
+    }
+
+    @Benchmark
+    public Buffer encodeObjects() {
+        return JsonBuffers.encode(mapsDocument, format);
+    }
+
+    @Benchmark
+    public JsonObject decodeObject() {
+        return JsonBuffers.decode(encoded, JsonBuffers::readObject, format);
+    }
+
+    private static JsonObject document(JsonArray products) {
+        return new JsonObject()
+                .put("products", products)
+                .put("total", products.size())
+                .put("timestamp", System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.kaivu.vertxweb.benchmarks;
+
+import com.github.kaivu.vertxweb.json.LocalJsonObjectCodec;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares event-bus request/reply with a {@code JsonObject} report, as between {@code ProductRouter}
+ * and {@code AnalyticsConsumer}.
+ *
+ * <p>{@code encodedStringReply} is the former path: the consumer replies with {@code encode()} and the
+ * requester parses {@code new JsonObject(body.toString())}. {@code localCodecReply} hands both request
+ * and reply over by reference through {@link LocalJsonObjectCodec}. {@code defaultCodecReply} uses the
+ * built-in codec, which deep-copies locally. The wire benchmarks show the clustered encode/decode cost.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=EventBusReply}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class EventBusReplyBenchmark {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String STRING_ADDRESS = "bench.reply.string";
+    private static final String LOCAL_ADDRESS = "bench.reply.local";
+    private static final String DEFAULT_ADDRESS = "bench.reply.default";
+
+    private final LocalJsonObjectCodec codec = new LocalJsonObjectCodec();
+    private final DeliveryOptions localOptions = new DeliveryOptions().setCodecName(LocalJsonObjectCodec.NAME);
+
+    private Vertx vertx;
+    private EventBus eventBus;
+    private JsonObject request;
+    private JsonObject report;
+    private Buffer encodedReport;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        eventBus = vertx.eventBus();
+        LocalJsonObjectCodec.register(eventBus);
+
+        request = new JsonObject().put("reportType", "analytics").put("timestamp", System.currentTimeMillis());
+        report = analyticsReport();
+        encodedReport = Buffer.buffer();
+        codec.encodeToWire(encodedReport, report);
+
+        eventBus.<JsonObject>consumer(STRING_ADDRESS, message -> message.reply(analyticsReport().encode()));
+        eventBus.<JsonObject>consumer(LOCAL_ADDRESS, message -> message.reply(analyticsReport(), localOptions));
+        eventBus.<JsonObject>consumer(DEFAULT_ADDRESS, message -> message.reply(analyticsReport()));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        await(vertx.close());
+    }
+
+    @Benchmark
+    public JsonObject encodedStringReply() throws Exception {
+        Message<Object> reply = await(eventBus.request(STRING_ADDRESS, request));
+        return new JsonObject(reply.body().toString());
+    }
+
+    @Benchmark
+    public JsonObject localCodecReply() throws Exception {
+        Message<JsonObject> reply = await(eventBus.request(LOCAL_ADDRESS, request, localOptions));
+        return reply.body();
+    }
+
+    @Benchmark
+    public JsonObject defaultCodecReply() throws Exception {
+        Message<JsonObject> reply = await(eventBus.request(DEFAULT_ADDRESS, request));
+        return reply.body();
+    }
+
+    @Benchmark
+    public Buffer wireEncode() {
+        Buffer buffer = Buffer.buffer(encodedReport.length());
+        codec.encodeToWire(buffer, report);
+        return buffer;
+    }
+
+    @Benchmark
+    public JsonObject wireDecode() {
+        return codec.decodeFromWire(0, encodedReport);
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Same shape as the report built by {@code AnalyticsConsumer}.
+     */
+    private static JsonObject analyticsReport() {
+        return new JsonObject()
+                .put("correlationId", "4bf92f3577b34da6a3ce929d0e0e4736")
+                .put("requestId", "00f067aa0ba902b7a3ce929d0e0e4736")
+                .put("reportType", "analytics")
+                .put("generatedAt", "2024-06-01T12:00:00")
+                .put("processingTimeMs", 12L)
+                .put("totalProducts", 742)
+                .put("totalRevenue", 48213.75)
+                .put("topCategory", "Electronics")
+                .put("averageOrderValue", 231.4)
+                .put("userId", "user-42")
+                .put("tenantId", "tenant-7")
+                .put("status", "completed");
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.kaivu.vertxweb.benchmarks;
+
+import com.github.kaivu.vertxweb.context.IdGenerators;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ID formats of {@link IdGenerators}.
+ *
+ * <p>Runs on four threads, like four event loops generating request IDs at once, so the contention of
+ * {@code UUID.randomUUID()} on its shared {@code SecureRandom} shows up next to the thread-local
+ * generators. Run with {@code -prof gc} (the default for {@code ./gradlew jmh}) to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public String uuid() {
+        return IdGenerators.UUID_V4.nextId();
+    }
+
+    @Benchmark
+    public String hex() {
+        return IdGenerators.HEX.nextId();
+    }
+
+    @Benchmark
+    public String base62() {
+        return IdGenerators.BASE62.nextId();
+    }
+
+    @Benchmark
+    public String w3cTraceId() {
+        return IdGenerators.W3C.nextId();
+    }
+
+    @Benchmark
+    public String w3cSpanId() {
+        return IdGenerators.W3C.nextSpanId();
+    }
+}
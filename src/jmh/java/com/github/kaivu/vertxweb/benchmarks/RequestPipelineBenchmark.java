@@ -0,0 +1,216 @@
+package com.github.kaivu.vertxweb.benchmarks;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import com.github.kaivu.vertxweb.models.User;
+import com.github.kaivu.vertxweb.web.RouterHelper;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each stage of the {@link RouterHelper#handleAsync} request pipeline against real Vert.x
+ * requests.
+ *
+ * <p>The in-process stages ({@code fromHttpRequest}, {@code handleAsync}, response encoding) run
+ * against a "parked" {@link RoutingContext}: a real request received over loopback whose response is
+ * never ended, so its headers, remote address and context data stay usable for the whole trial. The
+ * round-trip benchmarks send requests over loopback to routes that call {@code sendJsonResponse}
+ * directly and through {@code handleAsync}; the difference between them is the pipeline overhead.
+ * {@code encodeResponseBody} and {@code encodeResponseBuffer} compare the String-based encoding with
+ * the direct-to-Buffer path now used by {@code JsonResponseWriter}; {@code encodeUserRecords} and the
+ * decode pair measure the hand-written {@link User} serializers against the {@code JsonObject} maps.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=RequestPipeline}; the gc profiler reports
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation) for every stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RequestPipelineBenchmark {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final Function<RoutingContext, Uni<Void>> NOOP_HANDLER =
+            ignored -> Uni.createFrom().voidItem();
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+    private HttpClient parkingClient;
+    private RoutingContext parkedContext;
+    private JsonObject usersResponse;
+    private JsonObject userRecordsResponse;
+    private Buffer encodedUser;
+
+    @Setup
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        usersResponse = usersResponse();
+        userRecordsResponse = userRecordsResponse();
+        encodedUser = JsonBuffers.encode(usersResponse.getJsonArray("users").getJsonObject(0));
+
+        CompletableFuture<RoutingContext> parked = new CompletableFuture<>();
+        Router router = Router.router(vertx);
+        router.get("/parked").handler(parked::complete);
+        router.get("/send").handler(ctx -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, usersResponse));
+        router.get("/api/users").handler(ctx -> RouterHelper.handleAsync(ctx, this::sendUsers));
+
+        server = await(vertx.createHttpServer().requestHandler(router).listen(0, "localhost"));
+
+        HttpClientOptions clientOptions = new HttpClientOptions()
+                .setDefaultHost("localhost")
+                .setDefaultPort(server.actualPort())
+                .setKeepAlive(true);
+        client = vertx.createHttpClient(clientOptions);
+        parkingClient = vertx.createHttpClient(clientOptions);
+
+        // The parked request never receives a response; it only exists to provide a live RoutingContext
+        parkingClient
+                .request(HttpMethod.GET, "/parked")
+                .onSuccess(request -> request.putHeader("User-Agent", "Mozilla/5.0 (X11; Linux x86_64)")
+                        .putHeader("X-Tenant-ID", "tenant-7")
+                        .putHeader(AppConstants.Http.AUTHORIZATION, "Bearer benchmark")
+                        .send());
+        parkedContext = parked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        parkedContext.response().end();
+        await(client.close());
+        await(parkingClient.close());
+        await(server.close());
+        await(vertx.close());
+    }
+
+    @Benchmark
+    public ContextAwareVertxWrapper fromHttpRequest() {
+        return ContextAwareVertxWrapper.fromHttpRequest(vertx, parkedContext);
+    }
+
+    @Benchmark
+    public RoutingContext handleAsync() {
+        RouterHelper.handleAsync(parkedContext, NOOP_HANDLER);
+        return parkedContext;
+    }
+
+    @Benchmark
+    public Buffer encodeResponseBody() {
+        // The former response path: encode to a String, then re-encode it to UTF-8 bytes
+        return Buffer.buffer(usersResponse.encode());
+    }
+
+    @Benchmark
+    public Buffer encodeResponseBuffer() {
+        return JsonBuffers.encode(usersResponse);
+    }
+
+    @Benchmark
+    public Buffer encodeUserRecords() {
+        return JsonBuffers.encode(userRecordsResponse);
+    }
+
+    @Benchmark
+    public JsonObject decodeUserObject() {
+        return new JsonObject(encodedUser);
+    }
+
+    @Benchmark
+    public User decodeUserRecord() {
+        return JsonBuffers.decode(encodedUser, User::readJson);
+    }
+
+    @Benchmark
+    public Buffer sendJsonResponseRoundTrip() throws Exception {
+        return get("/send");
+    }
+
+    @Benchmark
+    public Buffer handleAsyncRoundTrip() throws Exception {
+        return get("/api/users");
+    }
+
+    private Uni<Void> sendUsers(RoutingContext ctx) {
+        RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, usersResponse);
+        return Uni.createFrom().voidItem();
+    }
+
+    private Buffer get(String uri) throws Exception {
+        return await(client.request(HttpMethod.GET, uri)
+                .compose(request -> request.putHeader("User-Agent", "jmh")
+                        .putHeader("X-Tenant-ID", "tenant-7")
+                        .send())
+                .compose(response -> response.body()));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Same shape as the {@code GET /api/users} response built by {@code UserService}.
+     */
+    private static JsonObject usersResponse() {
+        JsonArray users = new JsonArray()
+                .add(user(1, "John Doe", "john@example.com", true))
+                .add(user(2, "Jane Smith", "jane@example.com", true))
+                .add(user(3, "Bob Johnson", "bob@example.com", false));
+        return new JsonObject()
+                .put("users", users)
+                .put("total", users.size())
+                .put("timestamp", System.currentTimeMillis());
+    }
+
+    private static JsonObject user(int id, String name, String email, boolean active) {
+        return new JsonObject()
+                .put("id", id)
+                .put("name", name)
+                .put("email", email)
+                .put("active", active)
+                .put("createdAt", "2024-01-01T10:00:00Z");
+    }
+
+    /**
+     * The same users as {@link #usersResponse()}, as records.
+     */
+    private static JsonObject userRecordsResponse() {
+        Instant createdAt = Instant.parse("2024-01-01T10:00:00Z");
+        List<User> users = List.of(
+                new User(1, "John Doe", "john@example.com", true, createdAt, null),
+                new User(2, "Jane Smith", "jane@example.com", true, createdAt, null),
+                new User(3, "Bob Johnson", "bob@example.com", false, createdAt, null));
+        return new JsonObject()
+                .put("users", new JsonArray(users))
+                .put("total", users.size())
+                .put("timestamp", System.currentTimeMillis());
+    }
+}
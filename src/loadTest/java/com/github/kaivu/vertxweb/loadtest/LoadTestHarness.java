@@ -0,0 +1,125 @@
+package com.github.kaivu.vertxweb.loadtest;
+
+import com.github.kaivu.vertxweb.StartupApp;
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.config.ConfigProvider;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point of the {@code loadTest} Gradle task.
+ *
+ * <p>Boots {@link StartupApp} (AppVerticle + WorkerVerticle) in-process on an ephemeral port, drives it
+ * with {@link LoadTestRunner} once per configured protocol, then writes a JSON report (per-route
+ * p50/p90/p99/p99.9 and throughput of each protocol's run) so that runs, and HTTP/1.1 against HTTP/2, can
+ * be diffed.
+ */
+public class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int exitCode = 0;
+        try {
+            int port = findFreePort();
+            // AppVerticle reads its port through SmallRye Config, which honours system properties
+            System.setProperty("app.server.port", String.valueOf(port));
+            ApplicationConfig config = ConfigProvider.createConfig();
+
+            await(StartupApp.start(config), STARTUP_TIMEOUT_SECONDS);
+            log.info("Application started on port {}", port);
+
+            long runTimeoutSeconds = settings.warmupSeconds() + settings.durationSeconds() + STARTUP_TIMEOUT_SECONDS;
+            JsonArray runs = new JsonArray();
+            for (HttpVersion protocol : settings.protocols()) {
+                JsonObject run = await(
+                        new LoadTestRunner(settings, port, protocol, RouteTarget.DEFAULT_TARGETS).run(),
+                        runTimeoutSeconds);
+                logSummary(run);
+                runs.add(run);
+            }
+
+            JsonObject report = new JsonObject().put("settings", settings.toJson()).put("runs", runs);
+            writeReport(settings.reportPath(), report);
+            if (runs.size() > 1) {
+                logComparison(runs);
+            }
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        } finally {
+            StartupApp.shutdown();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void writeReport(Path reportPath, JsonObject report) throws IOException {
+        Path parent = reportPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(reportPath, report.encodePrettily());
+        log.info("Load test report written to {}", reportPath.toAbsolutePath());
+    }
+
+    private static void logSummary(JsonObject report) {
+        log.info("Results over {}", report.getString("protocol"));
+        log.info(String.format(
+                "%-40s %9s %7s %9s %9s %9s %9s %9s",
+                "route", "requests", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms"));
+        report.getJsonArray("routes").forEach(entry -> {
+            JsonObject route = (JsonObject) entry;
+            JsonObject latency = route.getJsonObject("latencyMs");
+            log.info(String.format(
+                    "%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f",
+                    route.getString("route"),
+                    route.getLong("requests"),
+                    route.getLong("errors"),
+                    route.getDouble("throughputRps"),
+                    latency.getDouble("p50"),
+                    latency.getDouble("p90"),
+                    latency.getDouble("p99"),
+                    latency.getDouble("p99.9")));
+        });
+    }
+
+    private static void logComparison(JsonArray runs) {
+        log.info(String.format(
+                "%-40s %9s %9s %9s %9s %9s", "protocol", "requests", "rps", "p50 ms", "p99 ms", "p99.9 ms"));
+        runs.forEach(entry -> {
+            JsonObject run = (JsonObject) entry;
+            JsonObject total = run.getJsonObject("total");
+            JsonObject latency = total.getJsonObject("latencyMs");
+            log.info(String.format(
+                    "%-40s %9d %9.1f %9.2f %9.2f %9.2f",
+                    run.getString("protocol"),
+                    total.getLong("requests"),
+                    total.getDouble("throughputRps"),
+                    latency.getDouble("p50"),
+                    latency.getDouble("p99"),
+                    latency.getDouble("p99.9")));
+        });
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+
+    private static <T> T await(Future<T> future, long timeoutSeconds) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(timeoutSeconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.kaivu.vertxweb.loadtest;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Open-loop load generator: requests are issued on a fixed schedule derived from the configured rate,
+ * regardless of how quickly earlier requests complete.
+ *
+ * <p>The generator runs on its own Vertx instance so it does not share event loops with the
+ * application under test. HTTP/2 runs use cleartext prior knowledge and multiplex the requests over
+ * {@code http2Connections} connections.
+ */
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long TICK_MS = 1;
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String AUTH_TOKEN = AppConstants.Auth.AUTH_SCHEME + "load-test";
+
+    private final LoadTestSettings settings;
+    private final int port;
+    private final HttpVersion protocol;
+    private final List<RouteRecorder> recorders;
+
+    public LoadTestRunner(LoadTestSettings settings, int port, HttpVersion protocol, List<RouteTarget> targets) {
+        this.settings = settings;
+        this.port = port;
+        this.protocol = protocol;
+        this.recorders = targets.stream().map(RouteRecorder::new).toList();
+    }
+
+    /**
+     * Runs warm-up and measurement phases and returns the JSON report of this protocol's run.
+     */
+    public Future<JsonObject> run() {
+        Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+        HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+                .setDefaultHost("localhost")
+                .setDefaultPort(port)
+                .setKeepAlive(true)
+                .setProtocolVersion(protocol)
+                .setHttp2ClearTextUpgrade(false)
+                .setMaxPoolSize(settings.connections())
+                .setHttp2MaxPoolSize(settings.http2Connections()));
+
+        Promise<Void> completion = Promise.promise();
+        Instant startedAt = Instant.now();
+        vertx.runOnContext(v -> generate(vertx, client, completion));
+
+        Future<JsonObject> report = completion.future().map(v -> report(startedAt));
+        report.onComplete(ar -> client.close().onComplete(closed -> vertx.close()));
+        return report;
+    }
+
+    private void generate(Vertx vertx, HttpClient client, Promise<Void> completion) {
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + settings.warmupSeconds() * NANOS_PER_SECOND;
+        long endNanos = measureFromNanos + settings.durationSeconds() * NANOS_PER_SECOND;
+        AtomicInteger inFlight = new AtomicInteger();
+        long[] sent = {0};
+
+        log.info(
+                "Generating {} req/s over {} across {} routes: {}s warm-up, {}s measured",
+                settings.rate(),
+                protocol,
+                recorders.size(),
+                settings.warmupSeconds(),
+                settings.durationSeconds());
+
+        vertx.setPeriodic(TICK_MS, timerId -> {
+            long now = System.nanoTime();
+            long due = Math.min(now, endNanos);
+
+            // Issue every request whose scheduled time has passed, each stamped with that scheduled time
+            long intendedNanos = startNanos + sent[0] * NANOS_PER_SECOND / settings.rate();
+            while (intendedNanos <= due) {
+                RouteRecorder recorder = recorders.get((int) (sent[0] % recorders.size()));
+                send(client, recorder, intendedNanos, intendedNanos >= measureFromNanos, inFlight);
+                sent[0]++;
+                intendedNanos = startNanos + sent[0] * NANOS_PER_SECOND / settings.rate();
+            }
+
+            if (now >= endNanos) {
+                vertx.cancelTimer(timerId);
+                awaitDrain(vertx, inFlight, now, completion);
+            }
+        });
+    }
+
+    private void send(
+            HttpClient client, RouteRecorder recorder, long intendedNanos, boolean measured, AtomicInteger inFlight) {
+        RouteTarget target = recorder.target();
+        RequestOptions options = new RequestOptions()
+                .setMethod(target.method())
+                .setURI(target.path())
+                .setTimeout(settings.requestTimeoutMs())
+                .putHeader(AppConstants.Http.AUTHORIZATION, AUTH_TOKEN);
+        if (target.body() != null) {
+            options.putHeader(HttpHeaders.CONTENT_TYPE, target.contentType());
+        }
+
+        inFlight.incrementAndGet();
+        client.request(options)
+                .compose(request -> target.body() != null ? request.send(target.body()) : request.send())
+                .compose(response -> response.body().map(body -> response))
+                .onComplete(ar -> {
+                    inFlight.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    long latencyNanos = System.nanoTime() - intendedNanos;
+                    if (ar.succeeded()) {
+                        HttpClientResponse response = ar.result();
+                        recorder.recordResponse(response.statusCode(), latencyNanos);
+                    } else {
+                        recorder.recordError(latencyNanos);
+                    }
+                });
+    }
+
+    private void awaitDrain(Vertx vertx, AtomicInteger inFlight, long drainStartNanos, Promise<Void> completion) {
+        vertx.setPeriodic(10, timerId -> {
+            boolean drained = inFlight.get() == 0;
+            if (drained || System.nanoTime() - drainStartNanos > DRAIN_TIMEOUT_NANOS) {
+                vertx.cancelTimer(timerId);
+                if (!drained) {
+                    log.warn("{} requests still in flight after drain timeout; they are not reported", inFlight.get());
+                }
+                completion.complete();
+            }
+        });
+    }
+
+    private JsonObject report(Instant startedAt) {
+        Histogram total = new Histogram(
+                RouteRecorder.LOWEST_TRACKABLE_NANOS,
+                RouteRecorder.HIGHEST_TRACKABLE_NANOS,
+                RouteRecorder.SIGNIFICANT_DIGITS);
+        JsonArray routes = new JsonArray();
+        for (RouteRecorder recorder : recorders) {
+            total.add(recorder.latencies());
+            routes.add(recorder.toJson(settings.durationSeconds()));
+        }
+
+        return new JsonObject()
+                .put("protocol", protocol.name())
+                .put("startedAt", startedAt.toString())
+                .put("routes", routes)
+                .put(
+                        "total",
+                        new JsonObject()
+                                .put("requests", total.getTotalCount())
+                                .put("throughputRps", (double) total.getTotalCount() / settings.durationSeconds())
+                                .put("latencyMs", RouteRecorder.latencyJson(total)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.kaivu.vertxweb.loadtest;
+
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load-test parameters, read from {@code loadTest.*} system properties (set by the Gradle {@code loadTest} task).
+ *
+ * @param rate total requests per second across all routes (open loop, independent of response times)
+ * @param durationSeconds length of the measured phase
+ * @param warmupSeconds length of the unmeasured warm-up phase that precedes it
+ * @param connections maximum HTTP/1.1 connections opened by the load generator
+ * @param http2Connections maximum HTTP/2 connections opened by the load generator, each multiplexing requests
+ * @param requestTimeoutMs per-request timeout; timed out requests are reported as errors
+ * @param protocols protocols to run the load with, one after the other, e.g. {@code HTTP_1_1,HTTP_2} to compare them
+ * @param reportPath where the JSON report is written
+ */
+public record LoadTestSettings(
+        int rate,
+        int durationSeconds,
+        int warmupSeconds,
+        int connections,
+        int http2Connections,
+        long requestTimeoutMs,
+        List<HttpVersion> protocols,
+        Path reportPath) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.rate", 200),
+                Integer.getInteger("loadTest.durationSeconds", 30),
+                Integer.getInteger("loadTest.warmupSeconds", 5),
+                Integer.getInteger("loadTest.connections", 32),
+                Integer.getInteger("loadTest.http2Connections", 1),
+                Long.getLong("loadTest.requestTimeoutMs", 10000),
+                parseProtocols(System.getProperty("loadTest.protocols", "HTTP_1_1")),
+                Path.of(System.getProperty("loadTest.report", "build/reports/load-test/report.json")));
+    }
+
+    public JsonObject toJson() {
+        return new JsonObject()
+                .put("rate", rate)
+                .put("durationSeconds", durationSeconds)
+                .put("warmupSeconds", warmupSeconds)
+                .put("connections", connections)
+                .put("http2Connections", http2Connections)
+                .put("requestTimeoutMs", requestTimeoutMs)
+                .put("protocols", new JsonArray(protocols.stream().map(HttpVersion::name).toList()));
+    }
+
+    private static List<HttpVersion> parseProtocols(String protocols) {
+        return Arrays.stream(protocols.split(","))
+                .map(String::trim)
+                .filter(protocol -> !protocol.isEmpty())
+                .map(HttpVersion::valueOf)
+                .toList();
+    }
+}
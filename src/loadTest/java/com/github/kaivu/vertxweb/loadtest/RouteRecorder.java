@@ -0,0 +1,96 @@
+package com.github.kaivu.vertxweb.loadtest;
+
+import io.vertx.core.json.JsonObject;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and outcome counters for one {@link RouteTarget}.
+ *
+ * <p>Latencies are measured from the request's <em>intended</em> send time, so a stalled server is
+ * charged for the requests queued behind it (no coordinated omission).
+ */
+public class RouteRecorder {
+
+    static final long LOWEST_TRACKABLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final RouteTarget target;
+    private final ConcurrentHistogram latencies =
+            new ConcurrentHistogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    public RouteRecorder(RouteTarget target) {
+        this.target = target;
+    }
+
+    public RouteTarget target() {
+        return target;
+    }
+
+    public void recordResponse(int statusCode, long latencyNanos) {
+        latencies.recordValue(clamp(latencyNanos));
+        statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a request that never produced a response (connection failure or timeout).
+     */
+    public void recordError(long latencyNanos) {
+        latencies.recordValue(clamp(latencyNanos));
+        errors.increment();
+    }
+
+    public Histogram latencies() {
+        return latencies;
+    }
+
+    public JsonObject toJson(int durationSeconds) {
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCodes.forEach((code, count) -> statuses.put(String.valueOf(code), count.sum()));
+
+        JsonObject statusJson = new JsonObject();
+        statuses.forEach(statusJson::put);
+
+        JsonObject json = new JsonObject()
+                .put("route", target.name())
+                .put("requests", latencies.getTotalCount())
+                .put("errors", errors.sum())
+                .put("statusCodes", statusJson)
+                .put("throughputRps", (double) latencies.getTotalCount() / durationSeconds)
+                .put("latencyMs", latencyJson(latencies));
+        if (target.records() > 1) {
+            // Bulk routes: records moved per second, counting the successful requests only
+            long succeeded = statusCodes.getOrDefault(200, new LongAdder()).sum();
+            json.put("recordsPerSecond", (double) succeeded * target.records() / durationSeconds);
+        }
+        return json;
+    }
+
+    static JsonObject latencyJson(AbstractHistogram histogram) {
+        return new JsonObject()
+                .put("p50", toMillis(histogram.getValueAtPercentile(50.0)))
+                .put("p90", toMillis(histogram.getValueAtPercentile(90.0)))
+                .put("p99", toMillis(histogram.getValueAtPercentile(99.0)))
+                .put("p99.9", toMillis(histogram.getValueAtPercentile(99.9)))
+                .put("max", toMillis(histogram.getMaxValue()))
+                .put("mean", histogram.getMean() / 1_000_000.0);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long clamp(long latencyNanos) {
+        return Math.max(LOWEST_TRACKABLE_NANOS, Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.kaivu.vertxweb.loadtest;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import java.util.List;
+
+/**
+ * A route driven by the load generator. Requests are spread round-robin across the targets.
+ *
+ * @param body request body sent with every request, or {@code null} for none
+ * @param contentType Content-Type of the body
+ * @param records records carried by one request, reported as records per second when above 1
+ */
+public record RouteTarget(HttpMethod method, String path, Buffer body, String contentType, int records) {
+
+    static final int IMPORT_RECORDS = 200;
+
+    public static final List<RouteTarget> DEFAULT_TARGETS = List.of(
+            new RouteTarget(HttpMethod.GET, "/api/users"),
+            new RouteTarget(HttpMethod.GET, "/api/products"),
+            new RouteTarget(HttpMethod.GET, "/api/products/analytics/report"),
+            new RouteTarget(
+                    HttpMethod.POST,
+                    "/api/products/import",
+                    productsNdjson(IMPORT_RECORDS),
+                    "application/x-ndjson",
+                    IMPORT_RECORDS),
+            new RouteTarget(HttpMethod.GET, "/health"),
+            new RouteTarget(HttpMethod.GET, "/health/readiness"),
+            new RouteTarget(HttpMethod.GET, "/health/liveness"),
+            new RouteTarget(HttpMethod.GET, "/health/detailed"));
+
+    public RouteTarget(HttpMethod method, String path) {
+        this(method, path, null, null, 1);
+    }
+
+    public String name() {
+        return method.name() + " " + path;
+    }
+
+    static Buffer productsNdjson(int count) {
+        Buffer body = Buffer.buffer();
+        for (int i = 0; i < count; i++) {
+            body.appendBuffer(new JsonObject()
+                            .put("name", "Product " + i)
+                            .put("category", "Load test")
+                            .put("price", 1.0 + i % 100)
+                            .put("quantity", i % 1000)
+                            .toBuffer())
+                    .appendByte((byte) '\n');
+        }
+        return body;
+    }
+}
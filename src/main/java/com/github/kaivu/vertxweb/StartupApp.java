@@ -2,6 +2,17 @@ package com.github.kaivu.vertxweb;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.config.ConfigProvider;
+import com.github.kaivu.vertxweb.context.IdGenerators;
+import com.github.kaivu.vertxweb.json.LocalJsonObjectCodec;
+import com.github.kaivu.vertxweb.json.LocalRecordCodec;
+import com.github.kaivu.vertxweb.logging.EventLevel;
+import com.github.kaivu.vertxweb.logging.EventSampler;
+import com.github.kaivu.vertxweb.logging.StructuredEventSink;
+import com.github.kaivu.vertxweb.logging.StructuredEvents;
+import com.github.kaivu.vertxweb.metrics.EventLoopLagMonitor;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.models.Product;
+import com.github.kaivu.vertxweb.models.User;
 import com.github.kaivu.vertxweb.verticles.AppVerticle;
 import com.github.kaivu.vertxweb.verticles.WorkerVerticle;
 import io.vertx.core.DeploymentOptions;
@@ -26,6 +37,8 @@ public class StartupApp {
 
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(StartupApp.class);
     private static Vertx vertx;
+    private static EventLoopLagMonitor eventLoopLagMonitor;
+    private static StructuredEventSink structuredEventSink;
     private static final List<String> deploymentIds = new ArrayList<>();
 
     public static void main(String[] args) {
@@ -37,13 +50,8 @@ public class StartupApp {
             // Setup graceful shutdown
             setupShutdownHook();
 
-            // Create Vertx instance with optimized options
-            VertxOptions vertxOptions = createVertxOptions(config);
-            vertx = Vertx.vertx(vertxOptions);
-            log.info("Vertx instance created with optimized configuration");
-
-            // Deploy verticles with proper error handling
-            deployVerticles(config)
+            // Create Vertx instance and deploy verticles with proper error handling
+            start(config)
                     .onSuccess(v -> {
                         log.info(
                                 "All verticles deployed successfully. Application started on port: {}",
@@ -61,6 +69,77 @@ public class StartupApp {
         }
     }
 
+    /**
+     * Creates the Vertx instance and deploys AppVerticle and WorkerVerticle.
+     * Used by {@link #main} and by the load-test harness, which boots the application in-process.
+     *
+     * @param config the application configuration
+     * @return a future completed with the Vertx instance once all verticles are deployed
+     */
+    public static Future<Vertx> start(ApplicationConfig config) {
+        // Correlation and error IDs use the configured format process-wide
+        IdGenerators.setDefault(IdGenerators.forName(config.logging().idFormat()));
+        startStructuredEventSink(config);
+
+        // Create Vertx instance with optimized options
+        VertxOptions vertxOptions = createVertxOptions(config);
+        vertx = Vertx.vertx(vertxOptions);
+        log.info("Vertx instance created with optimized configuration");
+        logTransport(config);
+
+        // Hook the runtime metrics into the event bus before any consumer is registered
+        MetricsRegistry metricsRegistry = MetricsRegistry.shared(vertx);
+        metricsRegistry.bindTo(vertx);
+
+        // Requests and replies between the verticles hand JsonObjects and model records over by reference
+        LocalJsonObjectCodec.register(vertx.eventBus());
+        LocalRecordCodec.registerDefault(vertx.eventBus(), User.class, User::readJson);
+        LocalRecordCodec.registerDefault(vertx.eventBus(), Product.class, Product::readJson);
+
+        // Report the named worker pool from the start, even before its first blocking task
+        metricsRegistry.workerPools().pool(config.deployment().workerPoolName());
+        startEventLoopLagMonitor(config);
+
+        return deployVerticles(config).map(v -> vertx);
+    }
+
+    private static void startStructuredEventSink(ApplicationConfig config) {
+        var events = config.events();
+        if (!events.enabled()) {
+            return;
+        }
+
+        EventSampler sampler = new EventSampler(
+                EventLevel.forName(events.level()),
+                events.defaultSampleRate(),
+                EventSampler.parseRates(events.sampleRates().orElse(null)),
+                events.slowEventThresholdMs());
+        structuredEventSink = new StructuredEventSink(
+                events.bufferSize(), events.batchSize(), events.writerIdleMs(), events.output(), sampler);
+        structuredEventSink.start();
+        StructuredEvents.install(structuredEventSink);
+    }
+
+    private static void startEventLoopLagMonitor(ApplicationConfig config) {
+        var monitoring = config.monitoring();
+        if (!monitoring.enableEventLoopMonitor()) {
+            return;
+        }
+
+        eventLoopLagMonitor = new EventLoopLagMonitor(
+                vertx,
+                MetricsRegistry.shared(vertx).eventLoops(),
+                monitoring.eventLoopProbeIntervalMs(),
+                monitoring.eventLoopLagThresholdMs(),
+                monitoring.eventLoopLagWindowSeconds(),
+                (loop, owners, lagNanos) -> log.warn(
+                        "Event loop {} serving {} lagging by {}ms",
+                        loop,
+                        owners,
+                        TimeUnit.NANOSECONDS.toMillis(lagNanos)));
+        eventLoopLagMonitor.start();
+    }
+
     private static VertxOptions createVertxOptions(ApplicationConfig config) {
         var deployment = config.deployment();
 
@@ -74,7 +153,19 @@ public class StartupApp {
                 .setMaxWorkerExecuteTime(config.worker().maxExecuteTime())
                 .setMaxEventLoopExecuteTime(deployment.maxEventLoopExecuteTimeMs())
                 .setBlockedThreadCheckInterval(deployment.blockedThreadCheckIntervalMs())
-                .setWarningExceptionTime(deployment.warningExceptionTimeMs());
+                .setWarningExceptionTime(deployment.warningExceptionTimeMs())
+                .setPreferNativeTransport(deployment.preferNativeTransport());
+    }
+
+    private static void logTransport(ApplicationConfig config) {
+        if (vertx.isNativeTransportEnabled()) {
+            log.info("Using the native epoll transport");
+        } else if (config.deployment().preferNativeTransport()) {
+            // Not fatal: NIO serves the same traffic, without the native-only socket options
+            log.warn("Native transport unavailable, falling back to NIO", vertx.unavailableNativeTransportCause());
+        } else {
+            log.info("Using the NIO transport");
+        }
     }
 
     private static Future<Void> deployVerticles(ApplicationConfig config) {
@@ -128,12 +219,18 @@ public class StartupApp {
                         "shutdown-hook"));
     }
 
-    private static void shutdown() {
+    /**
+     * Undeploys all verticles and closes the Vertx instance, waiting up to the configured shutdown timeout.
+     */
+    public static void shutdown() {
         if (vertx == null) {
             return;
         }
 
         log.info("Initiating graceful shutdown...");
+        if (eventLoopLagMonitor != null) {
+            eventLoopLagMonitor.stop();
+        }
         CountDownLatch latch = new CountDownLatch(1);
         AtomicReference<String> errorRef = new AtomicReference<>();
 
@@ -171,5 +268,11 @@ public class StartupApp {
             Thread.currentThread().interrupt();
             log.warn("Shutdown process interrupted", e);
         }
+
+        // Flush the events published during shutdown last
+        if (structuredEventSink != null) {
+            StructuredEvents.install(null);
+            structuredEventSink.stop();
+        }
     }
 }
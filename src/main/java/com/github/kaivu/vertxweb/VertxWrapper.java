@@ -1,6 +1,10 @@
 package com.github.kaivu.vertxweb;
 
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import com.github.kaivu.vertxweb.context.CorrelationScope;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.metrics.WorkerPoolMetrics;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
@@ -11,6 +15,8 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class VertxWrapper {
+    public static final String DEFAULT_OPERATION = "unnamed";
+
     private final Vertx vertx;
     private final RoutingContext routingContext;
     private final Context context;
@@ -37,23 +43,57 @@ public class VertxWrapper {
         return context;
     }
 
+    /**
+     * Runs blocking code on the worker pool of the current context, recording queue wait and execution
+     * time under the given operation name. The caller's correlation context is bound for the duration
+     * of the blocking code.
+     *
+     * @param operation low-cardinality name of the work, e.g. {@code analytics-report}
+     */
     public <T> Future<T> executeBlocking(
-            Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
+            String operation, Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
+        WorkerPoolMetrics.PoolCounters pool = MetricsRegistry.shared(vertx).workerPools().currentPool();
+        WorkerPoolMetrics.OperationTimings timings = pool.operation(operation);
+        CorrelationContext correlation = blockingCorrelationContext();
+        long submittedAt = System.nanoTime();
+        pool.onSubmitted();
         return vertx.executeBlocking(() -> {
-            try {
+            long startedAt = System.nanoTime();
+            pool.onStarted();
+            timings.recordQueueWait(startedAt - submittedAt);
+            try (CorrelationScope ignored = CorrelationScope.open(correlation)) {
                 return blockingCode.get();
             } catch (Exception e) {
                 throw exceptionMapper.apply(e);
+            } finally {
+                timings.recordExecution(System.nanoTime() - startedAt);
+                pool.onCompleted();
             }
         });
     }
 
-    public <T> Future<T> executeBlocking(Supplier<T> blockingCode, int errorStatusCode, String errorMessage) {
+    public <T> Future<T> executeBlocking(
+            String operation, Supplier<T> blockingCode, int errorStatusCode, String errorMessage) {
         return executeBlocking(
+                operation,
                 blockingCode,
                 e -> new ServiceException(errorMessage != null ? errorMessage : e.getMessage(), errorStatusCode));
     }
 
+    public <T> Future<T> executeBlocking(String operation, Supplier<T> blockingCode) {
+        return executeBlocking(
+                operation, blockingCode, AppConstants.Status.INTERNAL_SERVER_ERROR, "Internal server error");
+    }
+
+    public <T> Future<T> executeBlocking(
+            Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
+        return executeBlocking(defaultOperationName(), blockingCode, exceptionMapper);
+    }
+
+    public <T> Future<T> executeBlocking(Supplier<T> blockingCode, int errorStatusCode, String errorMessage) {
+        return executeBlocking(defaultOperationName(), blockingCode, errorStatusCode, errorMessage);
+    }
+
     public <T> Future<T> executeBlocking(Supplier<T> blockingCode, int errorStatusCode) {
         return executeBlocking(blockingCode, errorStatusCode, null);
     }
@@ -62,6 +102,19 @@ public class VertxWrapper {
         return executeBlocking(blockingCode, AppConstants.Status.INTERNAL_SERVER_ERROR, "Internal server error");
     }
 
+    public <T> Uni<T> executeBlockingUni(
+            String operation, Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
+        return Uni.createFrom().completionStage(() -> executeBlocking(operation, blockingCode, exceptionMapper)
+                .toCompletionStage());
+    }
+
+    public <T> Uni<T> executeBlockingUni(
+            String operation, Supplier<T> blockingCode, int errorStatusCode, String errorMessage) {
+        return Uni.createFrom()
+                .completionStage(() -> executeBlocking(operation, blockingCode, errorStatusCode, errorMessage)
+                        .toCompletionStage());
+    }
+
     public <T> Uni<T> executeBlockingUni(
             Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
         return Uni.createFrom().completionStage(() -> executeBlocking(blockingCode, exceptionMapper)
@@ -82,4 +135,18 @@ public class VertxWrapper {
         return Uni.createFrom()
                 .completionStage(() -> executeBlocking(blockingCode).toCompletionStage());
     }
+
+    /**
+     * Operation name used when the caller does not name the blocking work.
+     */
+    protected String defaultOperationName() {
+        return DEFAULT_OPERATION;
+    }
+
+    /**
+     * Correlation context bound on the worker thread while blocking code runs.
+     */
+    protected CorrelationContext blockingCorrelationContext() {
+        return CorrelationScope.current();
+    }
 }
@@ -3,10 +3,12 @@ package com.github.kaivu.vertxweb.config;
 import com.github.kaivu.vertxweb.consumers.AnalyticsConsumer;
 import com.github.kaivu.vertxweb.consumers.BatchOperationConsumer;
 import com.github.kaivu.vertxweb.consumers.HealthCheckConsumer;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
 import com.github.kaivu.vertxweb.middlewares.AuthHandler;
 import com.github.kaivu.vertxweb.middlewares.ErrorHandler;
 import com.github.kaivu.vertxweb.middlewares.LoggingHandler;
 import com.github.kaivu.vertxweb.patterns.CircuitBreakerRegistry;
+import com.github.kaivu.vertxweb.patterns.ConcurrencyLimiters;
 import com.github.kaivu.vertxweb.repositories.ProductRepository;
 import com.github.kaivu.vertxweb.repositories.ProductRepositoryImpl;
 import com.github.kaivu.vertxweb.services.ProductService;
@@ -14,6 +16,7 @@ import com.github.kaivu.vertxweb.services.UserService;
 import com.github.kaivu.vertxweb.web.RouterHelper;
 import com.github.kaivu.vertxweb.web.rests.CommonRouter;
 import com.github.kaivu.vertxweb.web.rests.HealthRouter;
+import com.github.kaivu.vertxweb.web.rests.MetricsRouter;
 import com.github.kaivu.vertxweb.web.rests.ProductRouter;
 import com.github.kaivu.vertxweb.web.rests.UserRouter;
 import com.github.kaivu.vertxweb.web.routes.RouterConfig;
@@ -73,6 +76,7 @@ public class AppModule extends AbstractModule {
         // Bind routers - these also have @Inject constructors
         bind(CommonRouter.class).in(Singleton.class);
         bind(HealthRouter.class).in(Singleton.class);
+        bind(MetricsRouter.class).in(Singleton.class);
         bind(UserRouter.class).in(Singleton.class);
         bind(ProductRouter.class).in(Singleton.class);
 
@@ -89,4 +93,23 @@ public class AppModule extends AbstractModule {
     Router provideMainRouter(Vertx vertx) {
         return Router.router(vertx);
     }
+
+    /**
+     * Provides the metrics registry shared by all verticle instances.
+     * Each verticle has its own injector, so the registry lives in Vert.x local shared data instead.
+     */
+    @Provides
+    @Singleton
+    MetricsRegistry provideMetricsRegistry(Vertx vertx) {
+        return MetricsRegistry.shared(vertx);
+    }
+
+    /**
+     * Provides the concurrency limiters shared by all verticle instances, stored like the metrics registry.
+     */
+    @Provides
+    @Singleton
+    ConcurrencyLimiters provideConcurrencyLimiters(Vertx vertx) {
+        return ConcurrencyLimiters.shared(vertx);
+    }
 }
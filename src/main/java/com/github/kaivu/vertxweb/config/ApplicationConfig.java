@@ -2,6 +2,7 @@ package com.github.kaivu.vertxweb.config;
 
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import java.util.Optional;
 
 /**
  * Application configuration interface using SmallRye Config.
@@ -56,6 +57,21 @@ public interface ApplicationConfig {
      */
     DeploymentConfig deployment();
 
+    /**
+     * Runtime monitoring configuration section.
+     */
+    MonitoringConfig monitoring();
+
+    /**
+     * Structured event sink configuration section.
+     */
+    EventsConfig events();
+
+    /**
+     * Adaptive concurrency limit configuration section.
+     */
+    ConcurrencyLimitConfig concurrencyLimit();
+
     interface ServerConfig {
         @WithDefault("8080")
         int port();
@@ -63,6 +79,10 @@ public interface ApplicationConfig {
         @WithDefault("0.0.0.0")
         String host();
 
+        /**
+         * Deadline of each request from its arrival; past it, pending work is cancelled and the request
+         * fails with 504. 0 disables it.
+         */
         @WithDefault("30000")
         long requestTimeoutMs();
 
@@ -71,6 +91,174 @@ public interface ApplicationConfig {
 
         @WithDefault("true")
         boolean enableCors();
+
+        /**
+         * gzip/deflate response compression, negotiated from Accept-Encoding.
+         */
+        @WithDefault("true")
+        boolean compressionEnabled();
+
+        /**
+         * Compression level, 1 (fastest) to 9 (smallest).
+         */
+        @WithDefault("6")
+        int compressionLevel();
+
+        /**
+         * Responses with a smaller known Content-Length are sent uncompressed.
+         */
+        @WithDefault("1024")
+        int compressionMinSizeBytes();
+
+        /**
+         * Comma-separated media types that are compressed; anything else is sent as is.
+         */
+        @WithDefault("application/json,application/cbor,application/x-jackson-smile,text/plain,text/html")
+        String compressionContentTypes();
+
+        /**
+         * Default refresh interval of the pre-serialized, precompressed bodies in the response cache.
+         */
+        @WithDefault("1000")
+        long precompressedTtlMs();
+
+        /**
+         * HTTP/2 alongside HTTP/1.1: h2c (prior knowledge or Upgrade) in cleartext, negotiated through ALPN
+         * over TLS.
+         */
+        @WithDefault("true")
+        boolean http2Enabled();
+
+        /**
+         * SETTINGS_MAX_CONCURRENT_STREAMS advertised to clients: requests one connection can have in flight.
+         */
+        @WithDefault("256")
+        long http2MaxConcurrentStreams();
+
+        /**
+         * SETTINGS_INITIAL_WINDOW_SIZE advertised to clients: per-stream flow-control window, in bytes.
+         */
+        @WithDefault("65535")
+        int http2InitialWindowSize();
+
+        /**
+         * SETTINGS_HEADER_TABLE_SIZE advertised to clients: HPACK dynamic table size, in bytes.
+         */
+        @WithDefault("4096")
+        long http2HeaderTableSize();
+
+        /**
+         * Serve HTTPS; requires {@code tls-cert-path} and {@code tls-key-path}.
+         */
+        @WithDefault("false")
+        boolean tlsEnabled();
+
+        /**
+         * PEM certificate chain of the server.
+         */
+        Optional<String> tlsCertPath();
+
+        /**
+         * PEM private key of the server.
+         */
+        Optional<String> tlsKeyPath();
+
+        /**
+         * TCP_NODELAY: send small responses without waiting to coalesce them (Nagle's algorithm).
+         */
+        @WithDefault("true")
+        boolean tcpNoDelay();
+
+        /**
+         * SO_REUSEPORT on the listening socket, so several processes can listen on the same port and the
+         * kernel balances connections across them. Native transport only. Off by default: when on, a second
+         * process binding the port starts without an error and silently takes part of the traffic.
+         */
+        @WithDefault("false")
+        boolean reusePort();
+
+        /**
+         * TCP_FASTOPEN: accept data in the SYN of returning clients. Native transport only; opt-in.
+         */
+        @WithDefault("false")
+        boolean tcpFastOpen();
+
+        /**
+         * TCP_QUICKACK: acknowledge requests immediately instead of delaying the ACK. Native transport only.
+         */
+        @WithDefault("true")
+        boolean tcpQuickAck();
+
+        /**
+         * Pending connections the kernel queues before they are accepted.
+         */
+        @WithDefault("1024")
+        int acceptBacklog();
+
+        /**
+         * SO_SNDBUF in bytes; -1 keeps the OS default and its auto-tuning.
+         */
+        @WithDefault("-1")
+        int sendBufferSize();
+
+        /**
+         * SO_RCVBUF in bytes; -1 keeps the OS default and its auto-tuning.
+         */
+        @WithDefault("-1")
+        int receiveBufferSize();
+
+        /**
+         * Connections that neither read nor write for this long are closed; 0, the default, keeps them open.
+         */
+        @WithDefault("0")
+        int idleTimeoutSeconds();
+
+        /**
+         * Longest accepted request line; longer ones are answered with 414.
+         */
+        @WithDefault("4096")
+        int maxInitialLineLength();
+
+        /**
+         * Largest accepted request header block; larger ones are answered with 431.
+         */
+        @WithDefault("8192")
+        int maxHeaderSize();
+
+        /**
+         * Largest body chunk the decoder hands over at once.
+         */
+        @WithDefault("8192")
+        int maxChunkSize();
+
+        /**
+         * Initial buffer of the request decoder, grown as needed for longer lines and headers.
+         */
+        @WithDefault("128")
+        int decoderInitialBufferSize();
+
+        /**
+         * Inflate gzip/deflate request bodies announced by Content-Encoding.
+         */
+        @WithDefault("false")
+        boolean decompressionEnabled();
+
+        /**
+         * Largest request body buffered in memory; larger ones are answered with 413.
+         */
+        @WithDefault("1048576")
+        long maxBodySizeBytes();
+
+        /**
+         * Per-route body limits as path=bytes pairs, e.g. /api/users/*=65536. Paths are Vert.x route paths.
+         */
+        Optional<String> bodyLimits();
+
+        /**
+         * Where the routes that accept file uploads write them.
+         */
+        @WithDefault("file-uploads")
+        String uploadsDirectory();
     }
 
     interface WorkerConfig {
@@ -104,6 +292,12 @@ public interface ApplicationConfig {
 
         @WithDefault("INFO")
         String logLevel();
+
+        /**
+         * Format of generated correlation, request and error IDs: uuid, hex, base62 or w3c.
+         */
+        @WithDefault("hex")
+        String idFormat();
     }
 
     interface ServiceConfig {
@@ -151,6 +345,37 @@ public interface ApplicationConfig {
 
         @WithDefault("150")
         int deleteMaxVarianceMs();
+
+        /**
+         * Records written per repository call by the NDJSON product import.
+         */
+        @WithDefault("500")
+        int importBatchSize();
+
+        /**
+         * Longest accepted NDJSON line; a longer one fails the import with 400.
+         */
+        @WithDefault("65536")
+        int importMaxLineBytes();
+
+        /**
+         * Failed lines listed in an import summary; further ones are only counted.
+         */
+        @WithDefault("100")
+        int importMaxErrors();
+
+        /**
+         * Largest import body; one announcing a larger Content-Length is answered with 413 up front, and
+         * a chunked one fails with 413 once more than this has been read.
+         */
+        @WithDefault("1073741824")
+        long importMaxBodyBytes();
+
+        /**
+         * Deadline of an import request, replacing request-timeout-ms for large bodies; 0 disables it.
+         */
+        @WithDefault("600000")
+        long importTimeoutMs();
     }
 
     interface AnalyticsConfig {
@@ -223,5 +448,115 @@ public interface ApplicationConfig {
 
         @WithDefault("30")
         int shutdownTimeoutSeconds();
+
+        /**
+         * Use the Linux epoll transport when available, falling back to NIO otherwise.
+         */
+        @WithDefault("true")
+        boolean preferNativeTransport();
+    }
+
+    interface MonitoringConfig {
+        @WithDefault("true")
+        boolean enableEventLoopMonitor();
+
+        @WithDefault("100")
+        long eventLoopProbeIntervalMs();
+
+        @WithDefault("50")
+        long eventLoopLagThresholdMs();
+
+        @WithDefault("60")
+        int eventLoopLagWindowSeconds();
+    }
+
+    interface EventsConfig {
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Ring buffer capacity, rounded up to a power of two. Events published while it is full are dropped.
+         */
+        @WithDefault("8192")
+        int bufferSize();
+
+        @WithDefault("256")
+        int batchSize();
+
+        /**
+         * How long the writer sleeps when the buffer is empty.
+         */
+        @WithDefault("50")
+        long writerIdleMs();
+
+        /**
+         * Where JSON lines go: log (the "events" logger) or stdout.
+         */
+        @WithDefault("log")
+        String output();
+
+        @WithDefault("INFO")
+        String level();
+
+        @WithDefault("1.0")
+        double defaultSampleRate();
+
+        /**
+         * Per-event sample rates as name=rate pairs, e.g. service_operation_start=0.1,request_received=0.5.
+         */
+        Optional<String> sampleRates();
+
+        /**
+         * Events reporting a duration_ms at or above this are always kept.
+         */
+        @WithDefault("1000")
+        long slowEventThresholdMs();
+    }
+
+    interface ConcurrencyLimitConfig {
+        /**
+         * Cap the requests running at once in each API route group (users, products, analytics, imports).
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("20")
+        int initialLimit();
+
+        @WithDefault("4")
+        int minLimit();
+
+        @WithDefault("1000")
+        int maxLimit();
+
+        /**
+         * How often each limit is recomputed from the round-trip times measured since the last update.
+         */
+        @WithDefault("100")
+        long windowMs();
+
+        /**
+         * Completed requests a window needs before the limit is recomputed.
+         */
+        @WithDefault("10")
+        int minWindowSamples();
+
+        /**
+         * How far the recent round-trip time may rise above the baseline before the limit shrinks.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * Weight of each new estimate against the current limit, in (0, 1].
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * Retry-After sent with the 503 of a rejected request.
+         */
+        @WithDefault("1")
+        int retryAfterSeconds();
     }
 }
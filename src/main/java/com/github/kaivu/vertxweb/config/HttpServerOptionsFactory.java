@@ -0,0 +1,158 @@
+package com.github.kaivu.vertxweb.config;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.PemKeyCertOptions;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds the {@link HttpServerOptions} of the API server from {@link ApplicationConfig.ServerConfig}, so
+ * every {@code AppVerticle} instance listens with the same settings.
+ */
+@Singleton
+public class HttpServerOptionsFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpServerOptionsFactory.class);
+    private static final AtomicBoolean SETTINGS_LOGGED = new AtomicBoolean();
+
+    private final Vertx vertx;
+    private final ApplicationConfig.ServerConfig serverConfig;
+
+    @Inject
+    public HttpServerOptionsFactory(Vertx vertx, ApplicationConfig appConfig) {
+        this.vertx = vertx;
+        this.serverConfig = appConfig.server();
+    }
+
+    public HttpServerOptions create() {
+        HttpServerOptions options = new HttpServerOptions();
+        configureSocket(options);
+        configureCodec(options);
+        configureCompression(options);
+        configureProtocols(options);
+        // Every AppVerticle instance builds the same options; logging them once is enough
+        if (SETTINGS_LOGGED.compareAndSet(false, true)) {
+            logEffectiveSettings(options);
+        }
+        return options;
+    }
+
+    /**
+     * SO_REUSEPORT, TCP_FASTOPEN and TCP_QUICKACK need the native transport, and are left off on NIO.
+     *
+     * <p>Vert.x shares one listening socket between the {@code AppVerticle} instances of a process and
+     * spreads its connections over their event loops; SO_REUSEPORT lets the kernel balance connections
+     * across processes listening on the same port.
+     */
+    private void configureSocket(HttpServerOptions options) {
+        options.setTcpNoDelay(serverConfig.tcpNoDelay())
+                .setAcceptBacklog(serverConfig.acceptBacklog())
+                .setSendBufferSize(serverConfig.sendBufferSize())
+                .setReceiveBufferSize(serverConfig.receiveBufferSize())
+                .setIdleTimeout(serverConfig.idleTimeoutSeconds())
+                .setIdleTimeoutUnit(TimeUnit.SECONDS);
+        if (vertx.isNativeTransportEnabled()) {
+            options.setReusePort(serverConfig.reusePort())
+                    .setTcpFastOpen(serverConfig.tcpFastOpen())
+                    .setTcpQuickAck(serverConfig.tcpQuickAck());
+        }
+    }
+
+    /**
+     * Limits of the HTTP/1.x request decoder. Pipelined requests need no option: they are read from the
+     * connection in order and answered in the same order.
+     */
+    private void configureCodec(HttpServerOptions options) {
+        options.setMaxInitialLineLength(serverConfig.maxInitialLineLength())
+                .setMaxHeaderSize(serverConfig.maxHeaderSize())
+                .setMaxChunkSize(serverConfig.maxChunkSize())
+                .setDecoderInitialBufferSize(serverConfig.decoderInitialBufferSize())
+                .setDecompressionSupported(serverConfig.decompressionEnabled());
+    }
+
+    /**
+     * Cleartext connections may start HTTP/2 with prior knowledge or upgrade from HTTP/1.1; TLS connections
+     * negotiate it through ALPN. Either way a client multiplexes its requests over one connection, up to
+     * the advertised stream limit.
+     */
+    private void configureProtocols(HttpServerOptions options) {
+        boolean http2 = serverConfig.http2Enabled();
+        options.setHttp2ClearTextEnabled(http2);
+        if (http2) {
+            options.setInitialSettings(new Http2Settings()
+                    .setMaxConcurrentStreams(serverConfig.http2MaxConcurrentStreams())
+                    .setInitialWindowSize(serverConfig.http2InitialWindowSize())
+                    .setHeaderTableSize(serverConfig.http2HeaderTableSize()));
+        }
+
+        if (serverConfig.tlsEnabled()) {
+            String certPath = serverConfig.tlsCertPath().orElseThrow(() -> missingTlsSetting("tls-cert-path"));
+            String keyPath = serverConfig.tlsKeyPath().orElseThrow(() -> missingTlsSetting("tls-key-path"));
+            options.setSsl(true)
+                    .setKeyCertOptions(new PemKeyCertOptions().setCertPath(certPath).setKeyPath(keyPath));
+            if (http2) {
+                options.setUseAlpn(true).setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
+            }
+        }
+    }
+
+    private static IllegalStateException missingTlsSetting(String name) {
+        return new IllegalStateException("app.server." + name + " is required when app.server.tls-enabled is true");
+    }
+
+    /**
+     * Netty negotiates gzip or deflate from Accept-Encoding; which responses are compressed at all is
+     * decided per response by {@code CompressionHandler}.
+     */
+    private void configureCompression(HttpServerOptions options) {
+        if (!serverConfig.compressionEnabled()) {
+            return;
+        }
+        options.setCompressionSupported(true).setCompressionLevel(serverConfig.compressionLevel());
+    }
+
+    /**
+     * Logs the options as the server will use them, defaults included, so a run can be matched to its tuning.
+     */
+    private void logEffectiveSettings(HttpServerOptions options) {
+        log.info(
+                "HTTP server socket: nativeTransport={}, acceptBacklog={}, sendBuffer={}, receiveBuffer={}, "
+                        + "idleTimeout={}s, tcpNoDelay={}, reusePort={}, tcpFastOpen={}, tcpQuickAck={}",
+                vertx.isNativeTransportEnabled(),
+                options.getAcceptBacklog(),
+                options.getSendBufferSize(),
+                options.getReceiveBufferSize(),
+                options.getIdleTimeout(),
+                options.isTcpNoDelay(),
+                options.isReusePort(),
+                options.isTcpFastOpen(),
+                options.isTcpQuickAck());
+        log.info(
+                "HTTP server codec: maxInitialLine={}, maxHeaderSize={}, maxChunkSize={}, decoderInitialBuffer={}, "
+                        + "compression={} (level {}, min {} bytes), decompression={}",
+                options.getMaxInitialLineLength(),
+                options.getMaxHeaderSize(),
+                options.getMaxChunkSize(),
+                options.getDecoderInitialBufferSize(),
+                options.isCompressionSupported(),
+                options.getCompressionLevel(),
+                serverConfig.compressionMinSizeBytes(),
+                options.isDecompressionSupported());
+        log.info(
+                "HTTP server protocols: tls={}, http2={}, maxConcurrentStreams={}, initialWindowSize={}, "
+                        + "headerTableSize={}",
+                options.isSsl(),
+                options.isHttp2ClearTextEnabled() || options.isUseAlpn(),
+                options.getInitialSettings().getMaxConcurrentStreams(),
+                options.getInitialSettings().getInitialWindowSize(),
+                options.getInitialSettings().getHeaderTableSize());
+    }
+}
@@ -7,6 +7,8 @@ public final class AppConstants {
 
     public static final class Http {
         public static final String CONTENT_TYPE_JSON = "application/json";
+        public static final String CONTENT_TYPE_CBOR = "application/cbor";
+        public static final String CONTENT_TYPE_SMILE = "application/x-jackson-smile";
         public static final String CONTENT_TYPE_TEXT = "text/plain";
         public static final String CONTENT_TYPE_HTML = "text/html";
         public static final String CHARSET_UTF8 = "charset=utf-8";
@@ -20,8 +22,10 @@ public final class AppConstants {
         public static final int UNAUTHORIZED = 401;
         public static final int NOT_FOUND = 404;
         public static final int GONE = 410;
+        public static final int PAYLOAD_TOO_LARGE = 413;
         public static final int INTERNAL_SERVER_ERROR = 500;
         public static final int SERVICE_UNAVAILABLE = 503;
+        public static final int GATEWAY_TIMEOUT = 504;
     }
 
     public static final class Auth {
@@ -4,6 +4,8 @@ import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
 import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
 import com.github.kaivu.vertxweb.context.CorrelationContext;
+import com.github.kaivu.vertxweb.context.CorrelationScope;
+import com.github.kaivu.vertxweb.json.LocalJsonObjectCodec;
 import com.github.kaivu.vertxweb.patterns.CircuitBreakerRegistry;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Inject;
@@ -46,20 +48,20 @@ public class AnalyticsConsumer implements EventBusConsumer {
     }
 
     public void handle(Message<JsonObject> message) {
-        ContextAwareVertxWrapper wrapper = null;
+        CorrelationScope scope = null;
         try {
             JsonObject requestData = message.body();
 
-            // Extract correlation context from message
-            wrapper = ContextAwareVertxWrapper.fromEventBusMessage(vertx, requestData);
+            // Extract correlation context from message headers
+            ContextAwareVertxWrapper wrapper = ContextAwareVertxWrapper.fromEventBusMessage(vertx, message);
             CorrelationContext context = wrapper.getCorrelationContext();
 
             // Make final references for lambda
             final ContextAwareVertxWrapper finalWrapper = wrapper;
             final CorrelationContext finalContext = context;
 
-            // Set up logging context for structured logging
-            context.setupLoggingContext();
+            // Bind the logging context for this message; later hops re-bind from the Vert.x context
+            scope = CorrelationScope.open(context);
 
             wrapper.logEvent("analytics_report_start", "operation", "analytics-report");
 
@@ -72,6 +74,7 @@ public class AnalyticsConsumer implements EventBusConsumer {
                     .execute(() -> Uni.createFrom().emitter((Consumer<UniEmitter<? super JsonObject>>) (emitter) -> {
                         finalWrapper
                                 .executeBlocking(
+                                        "analytics-report",
                                         () -> generateAnalyticsReport(finalContext),
                                         appConfig.analytics().executionTimeoutMs(),
                                         "Analytics report generation failed")
@@ -87,7 +90,8 @@ public class AnalyticsConsumer implements EventBusConsumer {
                                         finalContext.getProcessingDurationMs(),
                                         "correlation_id",
                                         finalContext.getCorrelationId());
-                                message.reply((report).encode());
+                                message.reply(
+                                        report, finalWrapper.replyOptions().setCodecName(LocalJsonObjectCodec.NAME));
                             },
                             error -> {
                                 finalWrapper.logEvent(
@@ -115,8 +119,8 @@ public class AnalyticsConsumer implements EventBusConsumer {
             message.fail(AppConstants.Status.INTERNAL_SERVER_ERROR, "Internal server error: " + e.getMessage());
         } finally {
             // Always clean up logging context
-            if (wrapper != null) {
-                wrapper.getCorrelationContext().clearLoggingContext();
+            if (scope != null) {
+                scope.close();
             }
         }
     }
@@ -2,8 +2,12 @@ package com.github.kaivu.vertxweb.consumers;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.context.CorrelationScope;
+import com.github.kaivu.vertxweb.json.LocalJsonObjectCodec;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Inject;
+import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
@@ -18,10 +22,12 @@ public class BatchOperationConsumer implements EventBusConsumer {
     private static final Logger log = LoggerFactory.getLogger(BatchOperationConsumer.class);
     private static final String OPERATION_KEY = "operation";
     private static final Random RANDOM = new Random();
+    private final Vertx vertx;
     private final ApplicationConfig appConfig;
 
     @Inject
-    public BatchOperationConsumer(ApplicationConfig appConfig) {
+    public BatchOperationConsumer(Vertx vertx, ApplicationConfig appConfig) {
+        this.vertx = vertx;
         this.appConfig = appConfig;
     }
 
@@ -36,7 +42,8 @@ public class BatchOperationConsumer implements EventBusConsumer {
     }
 
     public void handle(Message<JsonObject> message) {
-        try {
+        ContextAwareVertxWrapper wrapper = ContextAwareVertxWrapper.fromEventBusMessage(vertx, message);
+        try (CorrelationScope ignored = CorrelationScope.open(wrapper.getCorrelationContext())) {
             JsonObject requestData = message.body();
             String operation = requestData.getString(OPERATION_KEY);
 
@@ -49,7 +56,7 @@ public class BatchOperationConsumer implements EventBusConsumer {
             JsonObject result = processBatchOperation(requestData);
 
             log.info("Batch operation completed: {}", operation);
-            message.reply(result.encode());
+            message.reply(result, wrapper.replyOptions().setCodecName(LocalJsonObjectCodec.NAME));
 
         } catch (ServiceException e) {
             log.error("Service error in batch operation: {}", e.getMessage());
@@ -1,14 +1,12 @@
 package com.github.kaivu.vertxweb.context;
 
 import com.github.kaivu.vertxweb.VertxWrapper;
-import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
-import io.smallrye.mutiny.Uni;
+import com.github.kaivu.vertxweb.logging.StructuredEvents;
 import io.vertx.core.Context;
-import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
 import io.vertx.ext.web.RoutingContext;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,6 +19,7 @@ public class ContextAwareVertxWrapper extends VertxWrapper {
     private static final Logger log = LoggerFactory.getLogger(ContextAwareVertxWrapper.class);
 
     private final CorrelationContext correlationContext;
+    private final long createdAtNanos = System.nanoTime();
 
     public ContextAwareVertxWrapper(
             Vertx vertx, RoutingContext routingContext, Context context, CorrelationContext correlationContext) {
@@ -45,10 +44,13 @@ public class ContextAwareVertxWrapper extends VertxWrapper {
             context.withAttribute(CorrelationContext.CORRELATION_ID, existingCorrelationId);
         }
 
+        // Make the context reachable from anywhere in this request's execution
+        CorrelationScope.attach(context);
         return new ContextAwareVertxWrapper(vertx, routingContext, vertx.getOrCreateContext(), context);
     }
 
     public static ContextAwareVertxWrapper fromEventBus(Vertx vertx, CorrelationContext correlationContext) {
+        CorrelationScope.attach(correlationContext);
         return new ContextAwareVertxWrapper(vertx, vertx.getOrCreateContext(), correlationContext);
     }
 
@@ -57,52 +59,20 @@ public class ContextAwareVertxWrapper extends VertxWrapper {
     }
 
     /**
-     * Execute blocking operation with correlation context maintained.
+     * Blocking code runs with this wrapper's context bound, which may be a child of the request's.
      */
     @Override
-    public <T> Future<T> executeBlocking(
-            Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
-        // Set up logging context before execution
-        correlationContext.setupLoggingContext();
-
-        return super.executeBlocking(
-                        () -> {
-                            try {
-                                // Ensure context is available in blocking thread
-                                correlationContext.setupLoggingContext();
-
-                                log.debug("Executing blocking operation with context: {}", correlationContext);
-                                long startTime = System.currentTimeMillis();
-
-                                T result = blockingCode.get();
-
-                                long duration = System.currentTimeMillis() - startTime;
-                                log.debug(
-                                        "Blocking operation completed in {}ms with context: {}",
-                                        duration,
-                                        correlationContext);
-
-                                return result;
-                            } finally {
-                                // Always clean up MDC in blocking thread
-                                correlationContext.clearLoggingContext();
-                            }
-                        },
-                        exceptionMapper)
-                .onComplete(ar -> {
-                    // Clean up MDC in original thread
-                    correlationContext.clearLoggingContext();
-                });
+    protected CorrelationContext blockingCorrelationContext() {
+        return correlationContext;
     }
 
     /**
-     * Execute blocking with correlation context and Uni support.
+     * Names unnamed blocking work after the operation of a child context (see {@link #createChild}).
      */
     @Override
-    public <T> Uni<T> executeBlockingUni(
-            Supplier<T> blockingCode, Function<Exception, ServiceException> exceptionMapper) {
-        return Uni.createFrom().completionStage(() -> executeBlocking(blockingCode, exceptionMapper)
-                .toCompletionStage());
+    protected String defaultOperationName() {
+        Object operation = correlationContext.getAttribute(CorrelationContext.OPERATION);
+        return operation instanceof String name ? name : super.defaultOperationName();
     }
 
     /**
@@ -114,34 +84,53 @@ public class ContextAwareVertxWrapper extends VertxWrapper {
     }
 
     /**
-     * Prepare context data for EventBus transmission.
+     * Delivery options carrying this context as event-bus headers; the message body is left untouched.
      */
-    public void enrichEventBusMessage(io.vertx.core.json.JsonObject message) {
-        message.put("_context", correlationContext.toJson());
+    public DeliveryOptions deliveryOptions() {
+        return CorrelationHeaders.requestOptions(correlationContext);
+    }
 
-        // Add correlation headers for tracing
-        message.put("_correlationId", correlationContext.getCorrelationId());
-        message.put("_requestId", correlationContext.getRequestId());
+    /**
+     * Delivery options for replying to the message this wrapper was created from, reporting how long
+     * the consumer took.
+     */
+    public DeliveryOptions replyOptions() {
+        return CorrelationHeaders.replyOptions(correlationContext, createdAtNanos);
     }
 
     /**
-     * Extract context from EventBus message.
+     * Extract context from EventBus message headers.
      */
-    public static ContextAwareVertxWrapper fromEventBusMessage(Vertx vertx, io.vertx.core.json.JsonObject message) {
-        io.vertx.core.json.JsonObject contextJson = message.getJsonObject("_context");
-        CorrelationContext context = CorrelationContext.fromJson(contextJson);
-        return fromEventBus(vertx, context);
+    public static ContextAwareVertxWrapper fromEventBusMessage(Vertx vertx, Message<?> message) {
+        return fromEventBus(vertx, CorrelationHeaders.read(message.headers()));
     }
 
     /**
-     * Log structured event with correlation context.
+     * Log structured event with correlation context. Events go to the asynchronous structured event sink
+     * when one is installed, so no formatting or I/O happens on the calling thread.
      */
     public void logEvent(String event, Object... args) {
-        correlationContext.setupLoggingContext();
-        try {
-            log.info("Event: {} | Context: {} | Data: {}", event, correlationContext, args);
-        } finally {
-            correlationContext.clearLoggingContext();
+        logEvent(event, correlationContext, args);
+    }
+
+    /**
+     * Logs a structured event against the correlation context of the current execution, if any.
+     * For code that has no wrapper at hand, such as services.
+     */
+    public static void logCurrentEvent(String event, Object... args) {
+        CorrelationContext current = CorrelationScope.current();
+        if (current != null) {
+            logEvent(event, current, args);
+        }
+    }
+
+    private static void logEvent(String event, CorrelationContext context, Object[] args) {
+        if (StructuredEvents.emit(event, context, args)) {
+            return;
+        }
+        // No sink installed: log synchronously, without MDC work when the context is already bound
+        try (CorrelationScope ignored = CorrelationScope.open(context)) {
+            log.info("Event: {} | Context: {} | Data: {}", event, context, args);
         }
     }
 }
@@ -0,0 +1,113 @@
+package com.github.kaivu.vertxweb.context;
+
+import io.smallrye.mutiny.infrastructure.CallbackDecorator;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the {@link CorrelationContext} across Mutiny operators.
+ *
+ * <p>Mutiny passes every operator callback through the registered decorators when the pipeline is
+ * assembled. The correlation context current at assembly time is captured and bound with a
+ * {@link CorrelationScope} when the callback runs, whichever thread that is (e.g. after
+ * {@code onItem().delayIt()}). Callbacks assembled outside any request are left untouched.
+ *
+ * <p>Registered through {@code META-INF/services/io.smallrye.mutiny.infrastructure.CallbackDecorator}.
+ */
+public class CorrelationCallbackDecorator implements CallbackDecorator {
+
+    @Override
+    public <T> Supplier<T> decorate(Supplier<T> supplier) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return supplier;
+        }
+        return () -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                return supplier.get();
+            }
+        };
+    }
+
+    @Override
+    public <T> Consumer<T> decorate(Consumer<T> consumer) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return consumer;
+        }
+        return item -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                consumer.accept(item);
+            }
+        };
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return runnable;
+        }
+        return () -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                runnable.run();
+            }
+        };
+    }
+
+    @Override
+    public <V> Callable<V> decorate(Callable<V> callable) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return callable;
+        }
+        return () -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                return callable.call();
+            }
+        };
+    }
+
+    @Override
+    public <T1, T2> BiConsumer<T1, T2> decorate(BiConsumer<T1, T2> consumer) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return consumer;
+        }
+        return (first, second) -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                consumer.accept(first, second);
+            }
+        };
+    }
+
+    @Override
+    public <I, O> Function<I, O> decorate(Function<I, O> function) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return function;
+        }
+        return item -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                return function.apply(item);
+            }
+        };
+    }
+
+    @Override
+    public <I1, I2, O> BiFunction<I1, I2, O> decorate(BiFunction<I1, I2, O> function) {
+        CorrelationContext captured = CorrelationScope.current();
+        if (captured == null) {
+            return function;
+        }
+        return (first, second) -> {
+            try (CorrelationScope ignored = CorrelationScope.open(captured)) {
+                return function.apply(first, second);
+            }
+        };
+    }
+}
@@ -1,10 +1,10 @@
 package com.github.kaivu.vertxweb.context;
 
+import io.vertx.core.MultiMap;
 import io.vertx.core.json.JsonObject;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import org.slf4j.MDC;
 
 /**
@@ -27,123 +27,257 @@ public class CorrelationContext {
     public static final String SOURCE_IP = "sourceIp";
     public static final String USER_AGENT = "userAgent";
 
-    private final Map<String, Object> context;
+    // Child-context metadata
+    public static final String PARENT_SPAN_ID = "parentSpanId";
+    public static final String OPERATION = "operation";
 
-    private CorrelationContext(Map<String, Object> context) {
-        this.context = new HashMap<>(context);
+    // Well-known fields live in plain slots; only custom attributes go to the lazily created overflow map
+    private String correlationId;
+    private String requestId;
+    private String userId;
+    private String tenantId;
+    private String traceId;
+    private String spanId;
+    private String sessionId;
+    private String parentSpanId;
+    private String operation;
+    private String sourceIp;
+    private String userAgent;
+    private long startTime;
+    private boolean hasStartTime;
+    private Map<String, Object> attributes;
+
+    private CorrelationContext() {}
+
+    private CorrelationContext(CorrelationContext source) {
+        this.correlationId = source.correlationId;
+        this.requestId = source.requestId;
+        this.userId = source.userId;
+        this.tenantId = source.tenantId;
+        this.traceId = source.traceId;
+        this.spanId = source.spanId;
+        this.sessionId = source.sessionId;
+        this.parentSpanId = source.parentSpanId;
+        this.operation = source.operation;
+        this.sourceIp = source.sourceIp;
+        this.userAgent = source.userAgent;
+        this.startTime = source.startTime;
+        this.hasStartTime = source.hasStartTime;
+        this.attributes = source.attributes != null ? new HashMap<>(source.attributes) : null;
     }
 
     public static CorrelationContext create() {
-        Map<String, Object> context = new HashMap<>();
-        context.put(CORRELATION_ID, UUID.randomUUID().toString());
-        context.put(REQUEST_ID, UUID.randomUUID().toString());
-        context.put(START_TIME, Instant.now().toEpochMilli());
-        return new CorrelationContext(context);
+        IdGenerator ids = IdGenerators.getDefault();
+        CorrelationContext context = new CorrelationContext();
+        context.correlationId = ids.nextId();
+        context.requestId = ids.nextId();
+        context.startTime = Instant.now().toEpochMilli();
+        context.hasStartTime = true;
+        return context;
     }
 
     public static CorrelationContext fromJson(JsonObject json) {
-        Map<String, Object> context = new HashMap<>();
+        CorrelationContext context = new CorrelationContext();
         if (json != null) {
-            json.forEach(entry -> context.put(entry.getKey(), entry.getValue()));
+            json.forEach(entry -> context.set(entry.getKey(), entry.getValue()));
         }
-        return new CorrelationContext(context);
+        return context;
     }
 
     public JsonObject toJson() {
         JsonObject json = new JsonObject();
-        context.forEach(json::put);
+        putIfPresent(json, CORRELATION_ID, correlationId);
+        putIfPresent(json, REQUEST_ID, requestId);
+        putIfPresent(json, USER_ID, userId);
+        putIfPresent(json, TENANT_ID, tenantId);
+        putIfPresent(json, TRACE_ID, traceId);
+        putIfPresent(json, SPAN_ID, spanId);
+        putIfPresent(json, SESSION_ID, sessionId);
+        putIfPresent(json, PARENT_SPAN_ID, parentSpanId);
+        putIfPresent(json, OPERATION, operation);
+        putIfPresent(json, SOURCE_IP, sourceIp);
+        putIfPresent(json, USER_AGENT, userAgent);
+        if (hasStartTime) {
+            json.put(START_TIME, startTime);
+        }
+        if (attributes != null) {
+            attributes.forEach(json::put);
+        }
         return json;
     }
 
+    /**
+     * Rebuilds a context from event-bus message headers written by {@link #writeHeaders}.
+     */
+    static CorrelationContext fromHeaders(MultiMap headers) {
+        CorrelationContext context = new CorrelationContext();
+        if (headers != null && !headers.isEmpty()) {
+            headers.forEach((name, value) -> {
+                if (name.startsWith(CorrelationHeaders.PREFIX)) {
+                    context.set(name.substring(CorrelationHeaders.PREFIX.length()), value);
+                }
+            });
+        }
+        return context;
+    }
+
+    /**
+     * Writes the populated fields as event-bus message headers, one header per field.
+     * Only string-valued custom attributes are carried.
+     */
+    void writeHeaders(MultiMap headers) {
+        putIfPresent(headers, CorrelationHeaders.CORRELATION_ID, correlationId);
+        putIfPresent(headers, CorrelationHeaders.REQUEST_ID, requestId);
+        putIfPresent(headers, CorrelationHeaders.USER_ID, userId);
+        putIfPresent(headers, CorrelationHeaders.TENANT_ID, tenantId);
+        putIfPresent(headers, CorrelationHeaders.TRACE_ID, traceId);
+        putIfPresent(headers, CorrelationHeaders.SPAN_ID, spanId);
+        putIfPresent(headers, CorrelationHeaders.SESSION_ID, sessionId);
+        putIfPresent(headers, CorrelationHeaders.PARENT_SPAN_ID, parentSpanId);
+        putIfPresent(headers, CorrelationHeaders.OPERATION, operation);
+        putIfPresent(headers, CorrelationHeaders.SOURCE_IP, sourceIp);
+        putIfPresent(headers, CorrelationHeaders.USER_AGENT, userAgent);
+        if (hasStartTime) {
+            headers.add(CorrelationHeaders.START_TIME, Long.toString(startTime));
+        }
+        if (attributes != null) {
+            attributes.forEach((key, value) -> {
+                if (value instanceof String text) {
+                    headers.add(CorrelationHeaders.PREFIX + key, text);
+                }
+            });
+        }
+    }
+
     // Getters
     public String getCorrelationId() {
-        return (String) context.get(CORRELATION_ID);
+        return correlationId;
     }
 
     public String getRequestId() {
-        return (String) context.get(REQUEST_ID);
+        return requestId;
     }
 
     public String getUserId() {
-        return (String) context.get(USER_ID);
+        return userId;
     }
 
     public String getTenantId() {
-        return (String) context.get(TENANT_ID);
+        return tenantId;
     }
 
     public String getTraceId() {
-        return (String) context.get(TRACE_ID);
+        return traceId;
     }
 
     public Long getStartTime() {
-        return (Long) context.get(START_TIME);
+        return hasStartTime ? startTime : null;
     }
 
     // Setters with builder pattern
     public CorrelationContext withUserId(String userId) {
-        context.put(USER_ID, userId);
+        this.userId = userId;
         return this;
     }
 
     public CorrelationContext withTenantId(String tenantId) {
-        context.put(TENANT_ID, tenantId);
+        this.tenantId = tenantId;
         return this;
     }
 
     public CorrelationContext withTraceId(String traceId) {
-        context.put(TRACE_ID, traceId);
+        this.traceId = traceId;
         return this;
     }
 
     public CorrelationContext withSpanId(String spanId) {
-        context.put(SPAN_ID, spanId);
+        this.spanId = spanId;
         return this;
     }
 
     public CorrelationContext withSessionId(String sessionId) {
-        context.put(SESSION_ID, sessionId);
+        this.sessionId = sessionId;
         return this;
     }
 
     public CorrelationContext withSourceIp(String sourceIp) {
-        context.put(SOURCE_IP, sourceIp);
+        this.sourceIp = sourceIp;
         return this;
     }
 
     public CorrelationContext withUserAgent(String userAgent) {
-        context.put(USER_AGENT, userAgent);
+        this.userAgent = userAgent;
         return this;
     }
 
     public CorrelationContext withAttribute(String key, Object value) {
         if (key != null && value != null) {
-            context.put(key, value);
+            set(key, value);
         }
         return this;
     }
 
     public Object getAttribute(String key) {
-        return context.get(key);
+        if (key == null) {
+            return null;
+        }
+        return switch (key) {
+            case CORRELATION_ID -> correlationId;
+            case REQUEST_ID -> requestId;
+            case USER_ID -> userId;
+            case TENANT_ID -> tenantId;
+            case TRACE_ID -> traceId;
+            case SPAN_ID -> spanId;
+            case SESSION_ID -> sessionId;
+            case PARENT_SPAN_ID -> parentSpanId;
+            case OPERATION -> operation;
+            case SOURCE_IP -> sourceIp;
+            case USER_AGENT -> userAgent;
+            case START_TIME -> getStartTime();
+            default -> attributes != null ? attributes.get(key) : null;
+        };
+    }
+
+    /**
+     * A copy of the custom attributes, or {@code null} when there are none, for readers on other threads.
+     */
+    public Map<String, Object> attributesSnapshot() {
+        return attributes != null && !attributes.isEmpty() ? new HashMap<>(attributes) : null;
     }
 
     /**
      * Sets up logging context (MDC) for structured logging.
-     * Call this when processing starts in any service/verticle.
+     * Prefer {@link CorrelationScope#open}, which skips the MDC update when this context is already bound.
      */
     public void setupLoggingContext() {
-        MDC.put(CORRELATION_ID, getCorrelationId());
-        MDC.put(REQUEST_ID, getRequestId());
-        if (getUserId() != null) MDC.put(USER_ID, getUserId());
-        if (getTenantId() != null) MDC.put(TENANT_ID, getTenantId());
-        if (getTraceId() != null) MDC.put(TRACE_ID, getTraceId());
+        putOrRemove(CORRELATION_ID, correlationId);
+        putOrRemove(REQUEST_ID, requestId);
+        putOrRemove(USER_ID, userId);
+        putOrRemove(TENANT_ID, tenantId);
+        putOrRemove(TRACE_ID, traceId);
     }
 
     /**
-     * Clears logging context. Call this when processing completes.
+     * Clears the correlation keys from the logging context, leaving other MDC entries untouched.
      */
     public void clearLoggingContext() {
-        MDC.clear();
+        clearMdc();
+    }
+
+    static void clearMdc() {
+        MDC.remove(CORRELATION_ID);
+        MDC.remove(REQUEST_ID);
+        MDC.remove(USER_ID);
+        MDC.remove(TENANT_ID);
+        MDC.remove(TRACE_ID);
+    }
+
+    private static void putOrRemove(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
     }
 
     /**
@@ -151,20 +285,77 @@ public class CorrelationContext {
      * Preserves correlation info but generates new span/request IDs.
      */
     public CorrelationContext createChild(String operation) {
-        Map<String, Object> childContext = new HashMap<>(this.context);
-        childContext.put(REQUEST_ID, UUID.randomUUID().toString());
-        childContext.put(SPAN_ID, UUID.randomUUID().toString());
-        childContext.put("parentSpanId", context.get(SPAN_ID));
-        childContext.put("operation", operation);
-        return new CorrelationContext(childContext);
+        IdGenerator ids = IdGenerators.getDefault();
+        CorrelationContext child = new CorrelationContext(this);
+        child.requestId = ids.nextId();
+        child.spanId = ids.nextSpanId();
+        child.parentSpanId = this.spanId;
+        child.operation = operation;
+        return child;
     }
 
     /**
      * Calculates processing duration from start time.
      */
     public long getProcessingDurationMs() {
-        Long startTime = getStartTime();
-        return startTime != null ? Instant.now().toEpochMilli() - startTime : 0;
+        return hasStartTime ? Instant.now().toEpochMilli() - startTime : 0;
+    }
+
+    private void set(String key, Object value) {
+        switch (key) {
+            case CORRELATION_ID -> correlationId = asString(value);
+            case REQUEST_ID -> requestId = asString(value);
+            case USER_ID -> userId = asString(value);
+            case TENANT_ID -> tenantId = asString(value);
+            case TRACE_ID -> traceId = asString(value);
+            case SPAN_ID -> spanId = asString(value);
+            case SESSION_ID -> sessionId = asString(value);
+            case PARENT_SPAN_ID -> parentSpanId = asString(value);
+            case OPERATION -> operation = asString(value);
+            case SOURCE_IP -> sourceIp = asString(value);
+            case USER_AGENT -> userAgent = asString(value);
+            case START_TIME -> {
+                startTime = asLong(value);
+                hasStartTime = startTime > 0;
+            }
+            default -> {
+                if (attributes == null) {
+                    attributes = new HashMap<>(4);
+                }
+                attributes.put(key, value);
+            }
+        }
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // Headers carry the start time as text
+    private static long asLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static void putIfPresent(MultiMap headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value);
+        }
+    }
+
+    private static void putIfPresent(JsonObject json, String key, String value) {
+        if (value != null) {
+            json.put(key, value);
+        }
     }
 
     @Override
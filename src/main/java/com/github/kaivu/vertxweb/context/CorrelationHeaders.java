@@ -0,0 +1,90 @@
+package com.github.kaivu.vertxweb.context;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carries the {@link CorrelationContext} in event-bus message headers, so payloads stay untouched and
+ * consumers read the context without parsing the body.
+ *
+ * <p>Requests carry one {@code x-ctx-<field>} header per populated field. Replies echo the correlation
+ * id and report how long the consumer took, from receiving the request to replying, in
+ * {@link #PROCESSING_NANOS}; the requester can tell consumer time apart from event-bus transit.
+ */
+public final class CorrelationHeaders {
+
+    static final String PREFIX = "x-ctx-";
+
+    public static final String CORRELATION_ID = PREFIX + CorrelationContext.CORRELATION_ID;
+    public static final String REQUEST_ID = PREFIX + CorrelationContext.REQUEST_ID;
+    public static final String USER_ID = PREFIX + CorrelationContext.USER_ID;
+    public static final String TENANT_ID = PREFIX + CorrelationContext.TENANT_ID;
+    public static final String TRACE_ID = PREFIX + CorrelationContext.TRACE_ID;
+    public static final String SPAN_ID = PREFIX + CorrelationContext.SPAN_ID;
+    public static final String SESSION_ID = PREFIX + CorrelationContext.SESSION_ID;
+    public static final String PARENT_SPAN_ID = PREFIX + CorrelationContext.PARENT_SPAN_ID;
+    public static final String OPERATION = PREFIX + CorrelationContext.OPERATION;
+    public static final String SOURCE_IP = PREFIX + CorrelationContext.SOURCE_IP;
+    public static final String USER_AGENT = PREFIX + CorrelationContext.USER_AGENT;
+    public static final String START_TIME = PREFIX + CorrelationContext.START_TIME;
+
+    // Reply-only header: consumer time from receiving the request to replying
+    public static final String PROCESSING_NANOS = "x-processing-nanos";
+
+    private CorrelationHeaders() {
+        // Utility class
+    }
+
+    /**
+     * Delivery options for a request carrying the given context.
+     */
+    public static DeliveryOptions requestOptions(CorrelationContext context) {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        context.writeHeaders(headers);
+        return new DeliveryOptions().setHeaders(headers);
+    }
+
+    /**
+     * Delivery options for the reply to a request received at {@code receivedAtNanos}.
+     */
+    public static DeliveryOptions replyOptions(CorrelationContext context, long receivedAtNanos) {
+        DeliveryOptions options = new DeliveryOptions();
+        if (context.getCorrelationId() != null) {
+            options.addHeader(CORRELATION_ID, context.getCorrelationId());
+        }
+        options.addHeader(PROCESSING_NANOS, Long.toString(System.nanoTime() - receivedAtNanos));
+        return options;
+    }
+
+    /**
+     * Reads the context from request headers; empty when the sender attached none.
+     */
+    public static CorrelationContext read(MultiMap headers) {
+        return CorrelationContext.fromHeaders(headers);
+    }
+
+    /**
+     * Consumer processing time reported in reply headers, or {@code -1} when absent.
+     */
+    public static long processingNanos(MultiMap headers) {
+        String value = headers != null ? headers.get(PROCESSING_NANOS) : null;
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * {@link #processingNanos} in milliseconds, keeping {@code -1} for a missing header rather than
+     * rounding it to a 0 ms measurement.
+     */
+    public static long processingMs(MultiMap headers) {
+        long nanos = processingNanos(headers);
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
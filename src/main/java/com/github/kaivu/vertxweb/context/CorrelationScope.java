@@ -0,0 +1,97 @@
+package com.github.kaivu.vertxweb.context;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Propagates the {@link CorrelationContext} of the request being processed and binds it to the logging
+ * MDC once per execution segment.
+ *
+ * <p>The context travels in the local data of the Vert.x {@link Context}. HTTP requests and event-bus
+ * messages are each handled on their own duplicated context, so the locals are per request and follow
+ * the request into {@code executeBlocking}. Segments that run elsewhere (Mutiny executor threads) are
+ * covered by {@link CorrelationCallbackDecorator}, which opens a scope around every decorated callback.
+ *
+ * <pre>{@code
+ * try (CorrelationScope ignored = CorrelationScope.open(correlationContext)) {
+ *     // MDC carries correlationId/requestId for every log line in this block
+ * }
+ * }</pre>
+ *
+ * Opening a scope for the context that is already bound on the thread is free, so nested operators of
+ * one pipeline do not touch the MDC again.
+ */
+public final class CorrelationScope implements AutoCloseable {
+
+    private static final String LOCAL_KEY = CorrelationContext.class.getName();
+    private static final ThreadLocal<CorrelationContext> BOUND = new ThreadLocal<>();
+    private static final CorrelationScope NOOP = new CorrelationScope(null, false);
+
+    private final CorrelationContext previous;
+    private final boolean active;
+
+    private CorrelationScope(CorrelationContext previous, boolean active) {
+        this.previous = previous;
+        this.active = active;
+    }
+
+    /**
+     * Stores the context in the local data of the current Vert.x context, if any.
+     */
+    public static void attach(CorrelationContext correlationContext) {
+        Context context = Vertx.currentContext();
+        if (context != null) {
+            context.putLocal(LOCAL_KEY, correlationContext);
+        }
+    }
+
+    /**
+     * The correlation context of the current execution: the one bound on this thread by an open scope,
+     * else the one attached to the current Vert.x context, else {@code null}.
+     */
+    public static CorrelationContext current() {
+        CorrelationContext bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        Context context = Vertx.currentContext();
+        return context != null ? context.getLocal(LOCAL_KEY) : null;
+    }
+
+    /**
+     * Binds the context to the MDC until {@link #close()}, unless it is already bound on this thread.
+     */
+    public static CorrelationScope open(CorrelationContext correlationContext) {
+        CorrelationContext previous = BOUND.get();
+        if (correlationContext == null || correlationContext == previous) {
+            return NOOP;
+        }
+        correlationContext.setupLoggingContext();
+        BOUND.set(correlationContext);
+        return new CorrelationScope(previous, true);
+    }
+
+    /**
+     * Opens a scope for {@link #current()}; used at segment entry points that only have a Vert.x context.
+     */
+    public static CorrelationScope openCurrent() {
+        return open(current());
+    }
+
+    /**
+     * Restores whatever was bound before this scope was opened.
+     */
+    @Override
+    public void close() {
+        if (!active) {
+            return;
+        }
+        if (previous != null) {
+            previous.setupLoggingContext();
+            BOUND.set(previous);
+        } else {
+            CorrelationContext.clearMdc();
+            BOUND.remove();
+        }
+    }
+}
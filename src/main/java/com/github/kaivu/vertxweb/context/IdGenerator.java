@@ -0,0 +1,22 @@
+package com.github.kaivu.vertxweb.context;
+
+/**
+ * Source of correlation, request and span IDs. See {@link IdGenerators} for the built-in formats and
+ * for the process-wide default used by {@link CorrelationContext} and the error handler.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Returns a new 128-bit identifier.
+     */
+    String nextId();
+
+    /**
+     * Returns a new span identifier. Defaults to {@link #nextId()}; W3C trace context uses a shorter
+     * 64-bit parent-id for spans.
+     */
+    default String nextSpanId() {
+        return nextId();
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.kaivu.vertxweb.context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Built-in {@link IdGenerator} formats and the process-wide default.
+ *
+ * <p>The fast formats draw from {@link ThreadLocalRandom}, so event loops never contend on a shared
+ * {@code SecureRandom} the way {@link UUID#randomUUID()} does, and encode straight from the random bits
+ * into a per-thread scratch buffer. The IDs are unique for correlation purposes but not unpredictable:
+ * never use them as secrets or tokens.
+ */
+public final class IdGenerators {
+
+    /**
+     * Random UUIDs from {@code SecureRandom}, e.g. {@code 3f2b8c1e-...}. The original format.
+     */
+    public static final IdGenerator UUID_V4 = () -> UUID.randomUUID().toString();
+
+    /**
+     * 128 random bits as 32 lowercase hex characters.
+     */
+    public static final IdGenerator HEX = IdGenerators::randomHex;
+
+    /**
+     * 128 random bits as 22 base62 characters, the shortest URL- and header-safe form.
+     */
+    public static final IdGenerator BASE62 = IdGenerators::randomBase62;
+
+    /**
+     * W3C trace context format: 32-hex trace-id and 16-hex parent-id for spans, never all zeros.
+     */
+    public static final IdGenerator W3C = new IdGenerator() {
+        @Override
+        public String nextId() {
+            return randomW3cTraceId();
+        }
+
+        @Override
+        public String nextSpanId() {
+            return randomW3cSpanId();
+        }
+    };
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE62_DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+
+    // 62^11 > 2^64, so each 64-bit half fits in 11 base62 digits
+    private static final int BASE62_DIGITS_PER_LONG = 11;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[32]);
+
+    private static volatile IdGenerator defaultGenerator = HEX;
+
+    private IdGenerators() {
+        // Utility class
+    }
+
+    public static IdGenerator getDefault() {
+        return defaultGenerator;
+    }
+
+    public static void setDefault(IdGenerator generator) {
+        defaultGenerator = generator;
+    }
+
+    /**
+     * Resolves a configured format name: {@code uuid}, {@code hex}, {@code base62} or {@code w3c}.
+     *
+     * @throws IllegalArgumentException for unknown names
+     */
+    public static IdGenerator forName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "uuid" -> UUID_V4;
+            case "hex" -> HEX;
+            case "base62" -> BASE62;
+            case "w3c" -> W3C;
+            default -> throw new IllegalArgumentException("Unknown ID format: " + name);
+        };
+    }
+
+    /**
+     * Returns a new ID from the default generator.
+     */
+    public static String nextId() {
+        return defaultGenerator.nextId();
+    }
+
+    private static String randomHex() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex(random.nextLong(), random.nextLong());
+    }
+
+    private static String randomW3cTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        // An all-zero trace-id is invalid
+        return hex(high, low != 0 || high != 0 ? low : 1);
+    }
+
+    private static String randomW3cSpanId() {
+        long id = ThreadLocalRandom.current().nextLong();
+        byte[] buffer = SCRATCH.get();
+        writeHex(id != 0 ? id : 1, buffer, 0);
+        return new String(buffer, 0, 16, StandardCharsets.US_ASCII);
+    }
+
+    private static String hex(long high, long low) {
+        byte[] buffer = SCRATCH.get();
+        writeHex(high, buffer, 0);
+        writeHex(low, buffer, 16);
+        return new String(buffer, 0, 32, StandardCharsets.US_ASCII);
+    }
+
+    private static void writeHex(long value, byte[] buffer, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            buffer[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static String randomBase62() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] buffer = SCRATCH.get();
+        writeBase62(random.nextLong(), buffer, 0);
+        writeBase62(random.nextLong(), buffer, BASE62_DIGITS_PER_LONG);
+        return new String(buffer, 0, 2 * BASE62_DIGITS_PER_LONG, StandardCharsets.US_ASCII);
+    }
+
+    private static void writeBase62(long value, byte[] buffer, int offset) {
+        for (int i = BASE62_DIGITS_PER_LONG - 1; i >= 0; i--) {
+            buffer[offset + i] = BASE62_DIGITS[(int) Long.remainderUnsigned(value, 62)];
+            value = Long.divideUnsigned(value, 62);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.kaivu.vertxweb.json;
+
+import io.vertx.core.buffer.Buffer;
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} view appending to a Vert.x {@link Buffer}, the target of Jackson generators.
+ */
+final class BufferOutputStream extends OutputStream {
+
+    private Buffer buffer;
+
+    BufferOutputStream(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns what was written so far and continues into a new buffer of the given initial capacity.
+     */
+    Buffer take(int nextCapacity) {
+        Buffer written = buffer;
+        buffer = Buffer.buffer(nextCapacity);
+        return written;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer.appendBytes(bytes, offset, length);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.kaivu.vertxweb.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import java.io.IOException;
+
+/**
+ * One document generated incrementally and handed out as a sequence of buffers, for chunked responses.
+ *
+ * <p>A single generator writes the whole document, so separators and the framing of the binary formats
+ * stay consistent across chunks; {@link #chunk()} flushes it and returns everything written since the
+ * previous chunk.
+ */
+public final class ChunkedJsonGenerator {
+
+    // Chunks typically hold a single collection item
+    private static final int CHUNK_CAPACITY = 256;
+
+    private final BufferOutputStream out = new BufferOutputStream(Buffer.buffer(CHUNK_CAPACITY));
+    private final JsonGenerator generator;
+
+    public ChunkedJsonGenerator(DataFormat format) {
+        try {
+            this.generator = JsonBuffers.createGenerator(out, format);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to create a " + format + " generator: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The generator for the structure of the document; values go through {@link #writeValue}.
+     */
+    public JsonGenerator generator() {
+        return generator;
+    }
+
+    public void writeValue(Object value) {
+        try {
+            JsonBuffers.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode value: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Everything written since the previous chunk.
+     */
+    public Buffer chunk() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new EncodeException("Failed to flush generator: " + e.getMessage(), e);
+        }
+        return out.take(CHUNK_CAPACITY);
+    }
+
+    /**
+     * Closes the document, writing any structure still open, and returns the last chunk.
+     */
+    public Buffer finish() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new EncodeException("Failed to close generator: " + e.getMessage(), e);
+        }
+        return out.take(0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.kaivu.vertxweb.json;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Wire form of the event-bus codecs in this package, used only on a clustered bus: a length-prefixed
+ * CBOR body, encoded straight into the outgoing buffer and parsed in place from the incoming one.
+ */
+final class CodecWireFormat {
+
+    private CodecWireFormat() {
+        // Utility class
+    }
+
+    static void write(Buffer buffer, Object value) {
+        int lengthPosition = buffer.length();
+        buffer.appendInt(0);
+        JsonBuffers.encodeTo(value, buffer, DataFormat.CBOR);
+        buffer.setInt(lengthPosition, buffer.length() - lengthPosition - Integer.BYTES);
+    }
+
+    static <T> T read(int pos, Buffer buffer, JsonReader<T> reader) {
+        int length = buffer.getInt(pos);
+        int start = pos + Integer.BYTES;
+        return JsonBuffers.decode(buffer.slice(start, start + length), reader, DataFormat.CBOR);
+    }
+}
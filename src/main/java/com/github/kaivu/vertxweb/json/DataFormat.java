@@ -0,0 +1,64 @@
+package com.github.kaivu.vertxweb.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import io.vertx.core.http.HttpHeaders;
+
+/**
+ * Wire formats for API bodies. The binary formats share the JSON data model and are produced by the same
+ * Jackson streaming code through a different {@link JsonFactory}, so anything {@link JsonBuffers} can
+ * encode or decode as JSON can also go over the wire as CBOR or Smile.
+ */
+public enum DataFormat {
+    JSON(AppConstants.Http.CONTENT_TYPE_JSON, new JsonFactory(), true),
+    CBOR(AppConstants.Http.CONTENT_TYPE_CBOR, new CBORFactory(), false),
+    SMILE(AppConstants.Http.CONTENT_TYPE_SMILE, new SmileFactory(), false);
+
+    private static final DataFormat[] VALUES = values();
+
+    private final String mediaType;
+    private final CharSequence contentType;
+    private final JsonFactory factory;
+
+    DataFormat(String mediaType, JsonFactory factory, boolean text) {
+        this.mediaType = mediaType;
+        // Pre-encoded once for Netty's header encoder
+        this.contentType = HttpHeaders.createOptimized(
+                text ? mediaType + "; " + AppConstants.Http.CHARSET_UTF8 : mediaType);
+        this.factory = factory;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The Content-Type header value for bodies in this format.
+     */
+    public CharSequence contentType() {
+        return contentType;
+    }
+
+    JsonFactory factory() {
+        return factory;
+    }
+
+    /**
+     * The format of a media type, ignoring case and parameters, or {@code null} when not supported.
+     */
+    public static DataFormat forMediaType(String mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        int end = mediaType.indexOf(';');
+        String type = (end >= 0 ? mediaType.substring(0, end) : mediaType).trim();
+        for (DataFormat format : VALUES) {
+            if (format.mediaType.equalsIgnoreCase(type)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
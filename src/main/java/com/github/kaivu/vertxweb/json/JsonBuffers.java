@@ -0,0 +1,215 @@
+package com.github.kaivu.vertxweb.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes JSON values straight into a Vert.x {@link Buffer} with a Jackson streaming generator.
+ *
+ * <p>{@code JsonObject.encode()} builds a {@code String} that {@code end(String)} then re-encodes to
+ * UTF-8 bytes. Here the generator writes UTF-8 into its recycled internal buffer and flushes it into the
+ * target {@code Buffer}, so the only copy left is the one into the bytes that go to the socket.
+ *
+ * <p>Supports {@link JsonObject}, {@link JsonArray}, {@link JsonWritable}, maps, lists and the scalar
+ * types Vert.x JSON accepts, encoded the way Vert.x encodes them ({@link Instant} as ISO-8601,
+ * {@code byte[]} and {@code Buffer} with the Vert.x base64 encoder, base64url without padding by default).
+ *
+ * <p>Every method has a variant taking a {@link DataFormat}; the others use JSON.
+ */
+public final class JsonBuffers {
+
+    // Most API responses fit; the buffer grows if needed
+    private static final int INITIAL_CAPACITY = 512;
+
+    private JsonBuffers() {
+        // Utility class
+    }
+
+    /**
+     * Encodes the value into a new buffer.
+     *
+     * @throws EncodeException if the value, or a value nested in it, cannot be encoded
+     */
+    public static Buffer encode(Object value) {
+        return encode(value, DataFormat.JSON);
+    }
+
+    public static Buffer encode(Object value, DataFormat format) {
+        Buffer buffer = Buffer.buffer(INITIAL_CAPACITY);
+        encodeTo(value, buffer, format);
+        return buffer;
+    }
+
+    /**
+     * Appends the encoded value to an existing buffer.
+     *
+     * @throws EncodeException if the value, or a value nested in it, cannot be encoded
+     */
+    public static void encodeTo(Object value, Buffer buffer) {
+        encodeTo(value, buffer, DataFormat.JSON);
+    }
+
+    public static void encodeTo(Object value, Buffer buffer, DataFormat format) {
+        try (JsonGenerator generator = createGenerator(new BufferOutputStream(buffer), format)) {
+            writeValue(generator, value);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as " + format + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes a typed value from the buffer with the given reader, parsing the bytes in place.
+     *
+     * @throws DecodeException if the buffer is not valid JSON or does not match what the reader expects
+     */
+    public static <T> T decode(Buffer buffer, JsonReader<T> reader) {
+        return decode(buffer, reader, DataFormat.JSON);
+    }
+
+    public static <T> T decode(Buffer buffer, JsonReader<T> reader, DataFormat format) {
+        try (JsonParser parser = format.factory().createParser(new ByteBufInputStream(buffer.getByteBuf()))) {
+            return reader.read(parser);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new DecodeException("Failed to decode " + format + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a JSON object into a {@code JsonObject}, the generic reader for bodies in any format.
+     */
+    public static JsonObject readObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return readObjectFields(parser);
+    }
+
+    static JsonGenerator createGenerator(BufferOutputStream out, DataFormat format) throws IOException {
+        return format.factory().createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Writes any supported value to the generator; for {@link JsonWritable} implementations that nest
+     * generic JSON values.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof JsonWritable writable) {
+            writable.writeJson(generator);
+        } else if (value instanceof JsonObject object) {
+            writeObject(generator, object.getMap());
+        } else if (value instanceof JsonArray array) {
+            writeArray(generator, array.getList());
+        } else if (value instanceof Map<?, ?> map) {
+            writeObject(generator, map);
+        } else if (value instanceof List<?> list) {
+            writeArray(generator, list);
+        } else if (value instanceof CharSequence text) {
+            generator.writeString(text.toString());
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof Number number) {
+            writeNumber(generator, number);
+        } else if (value instanceof Enum<?> constant) {
+            generator.writeString(constant.name());
+        } else if (value instanceof Instant instant) {
+            generator.writeString(DateTimeFormatter.ISO_INSTANT.format(instant));
+        } else if (value instanceof byte[] bytes) {
+            generator.writeString(JsonUtil.BASE64_ENCODER.encodeToString(bytes));
+        } else if (value instanceof Buffer buffer) {
+            generator.writeString(JsonUtil.BASE64_ENCODER.encodeToString(buffer.getBytes()));
+        } else {
+            throw new EncodeException("Unsupported JSON value type: " + value.getClass().getName());
+        }
+    }
+
+    private static JsonObject readObjectFields(JsonParser parser) throws IOException {
+        JsonObject object = new JsonObject();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            object.put(field, readCurrentValue(parser, parser.nextToken()));
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new IllegalArgumentException("Unterminated JSON object");
+        }
+        return object;
+    }
+
+    private static Object readCurrentValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null) {
+            throw new IllegalArgumentException("Unexpected end of input");
+        }
+        return switch (token) {
+            case START_OBJECT -> readObjectFields(parser);
+            case START_ARRAY -> {
+                JsonArray array = new JsonArray();
+                JsonToken next;
+                while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(readCurrentValue(parser, next));
+                }
+                yield array;
+            }
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            // Binary formats carry byte strings natively
+            case VALUE_EMBEDDED_OBJECT -> parser.getBinaryValue();
+            default -> throw new IllegalArgumentException("Unexpected token " + token);
+        };
+    }
+
+    private static void writeObject(JsonGenerator generator, Map<?, ?> map) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            generator.writeFieldName(String.valueOf(entry.getKey()));
+            writeValue(generator, entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeArray(JsonGenerator generator, List<?> list) throws IOException {
+        generator.writeStartArray();
+        for (Object item : list) {
+            writeValue(generator, item);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number number) throws IOException {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            generator.writeNumber(number.intValue());
+        } else if (number instanceof Long) {
+            generator.writeNumber(number.longValue());
+        } else if (number instanceof Double) {
+            generator.writeNumber(number.doubleValue());
+        } else if (number instanceof Float) {
+            generator.writeNumber(number.floatValue());
+        } else if (number instanceof BigDecimal decimal) {
+            generator.writeNumber(decimal);
+        } else if (number instanceof BigInteger integer) {
+            generator.writeNumber(integer);
+        } else {
+            generator.writeNumber(number.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.kaivu.vertxweb.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Reads one value from a Jackson streaming parser, the counterpart of {@link JsonWritable}: typed values
+ * are built field by field from the tokens, without an intermediate {@code JsonObject}.
+ */
+@FunctionalInterface
+public interface JsonReader<T> {
+
+    /**
+     * Reads the value starting at the parser's next token.
+     */
+    T read(JsonParser parser) throws IOException;
+}
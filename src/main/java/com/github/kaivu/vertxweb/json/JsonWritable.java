@@ -0,0 +1,16 @@
+package com.github.kaivu.vertxweb.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * A value that writes itself to a Jackson streaming generator, so it can be serialized straight into a
+ * response {@code Buffer} without first being converted to a {@code JsonObject} or a {@code String}.
+ */
+public interface JsonWritable {
+
+    /**
+     * Writes this value as one complete JSON value (typically an object).
+     */
+    void writeJson(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,55 @@
+package com.github.kaivu.vertxweb.json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Event-bus codec for {@link JsonObject} bodies that are handed over rather than shared.
+ *
+ * <p>Local delivery passes the instance by reference: no copy, no encode/parse round trip. The sender
+ * gives up the object, so it must not modify it after sending or replying. Vert.x's built-in codec
+ * deep-copies instead, and replying with {@code encode()}d Strings serializes and re-parses every reply.
+ * Only a clustered bus uses the wire format, a length-prefixed CBOR body (see {@link CodecWireFormat}).
+ * Immutable message types use {@link LocalRecordCodec}, which needs no such promise from the sender.
+ *
+ * <p>Select it per message with {@code new DeliveryOptions().setCodecName(LocalJsonObjectCodec.NAME)}.
+ */
+public final class LocalJsonObjectCodec implements MessageCodec<JsonObject, JsonObject> {
+
+    public static final String NAME = "local-json-object";
+
+    /**
+     * Registers the codec on the event bus. Call once per Vertx instance.
+     */
+    public static void register(EventBus eventBus) {
+        eventBus.registerCodec(new LocalJsonObjectCodec());
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
+        CodecWireFormat.write(buffer, jsonObject);
+    }
+
+    @Override
+    public JsonObject decodeFromWire(int pos, Buffer buffer) {
+        return CodecWireFormat.read(pos, buffer, JsonBuffers::readObject);
+    }
+
+    @Override
+    public JsonObject transform(JsonObject jsonObject) {
+        return jsonObject;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        // User codec
+        return -1;
+    }
+}
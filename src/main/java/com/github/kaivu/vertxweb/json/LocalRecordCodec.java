@@ -0,0 +1,61 @@
+package com.github.kaivu.vertxweb.json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Event-bus codec for immutable message types, such as the model records.
+ *
+ * <p>Local delivery passes the instance by reference: it cannot change, so unlike a {@code JsonObject}
+ * it needs neither a copy nor a promise from the sender. A clustered bus sends it in CBOR, written with
+ * its {@link JsonWritable} form and read back with its {@link JsonReader}.
+ *
+ * <p>Registered as the default codec of its type, so messages of that type use it without naming it.
+ *
+ * @param <T> the message type, which must be immutable
+ */
+public final class LocalRecordCodec<T extends JsonWritable> implements MessageCodec<T, T> {
+
+    private final String name;
+    private final JsonReader<T> reader;
+
+    private LocalRecordCodec(Class<T> type, JsonReader<T> reader) {
+        this.name = "local-record-" + type.getName();
+        this.reader = reader;
+    }
+
+    /**
+     * Registers the codec as the default one for {@code type}. Call once per Vertx instance and type.
+     */
+    public static <T extends JsonWritable> void registerDefault(
+            EventBus eventBus, Class<T> type, JsonReader<T> reader) {
+        eventBus.registerDefaultCodec(type, new LocalRecordCodec<>(type, reader));
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T value) {
+        CodecWireFormat.write(buffer, value);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        return CodecWireFormat.read(pos, buffer, reader);
+    }
+
+    @Override
+    public T transform(T value) {
+        return value;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        // User codec
+        return -1;
+    }
+}
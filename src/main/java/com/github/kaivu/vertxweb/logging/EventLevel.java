@@ -0,0 +1,22 @@
+package com.github.kaivu.vertxweb.logging;
+
+import java.util.Locale;
+
+/**
+ * Severity of a structured event, in increasing order.
+ */
+public enum EventLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    /**
+     * Resolves a configured level name, case-insensitively.
+     *
+     * @throws IllegalArgumentException for unknown names
+     */
+    public static EventLevel forName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
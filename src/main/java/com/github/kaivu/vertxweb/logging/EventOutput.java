@@ -0,0 +1,73 @@
+package com.github.kaivu.vertxweb.logging;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Destination of the JSON lines written by {@link StructuredEventSink}. Only used from the writer thread.
+ */
+interface EventOutput {
+
+    void write(CharSequence line);
+
+    void flush();
+
+    /**
+     * Resolves a configured output name: {@code log} writes each line through the {@code events} logger,
+     * so the logging backend decides where it goes; {@code stdout} writes to standard output.
+     *
+     * @throws IllegalArgumentException for unknown names
+     */
+    static EventOutput forName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "log" -> new LoggerOutput(LoggerFactory.getLogger("events"));
+            case "stdout" -> new StreamOutput(System.out);
+            default -> throw new IllegalArgumentException("Unknown event output: " + name);
+        };
+    }
+
+    final class LoggerOutput implements EventOutput {
+
+        private final Logger logger;
+
+        LoggerOutput(Logger logger) {
+            this.logger = logger;
+        }
+
+        @Override
+        public void write(CharSequence line) {
+            logger.info(line.toString());
+        }
+
+        @Override
+        public void flush() {
+            // The logging backend flushes on its own
+        }
+    }
+
+    final class StreamOutput implements EventOutput {
+
+        private final PrintStream stream;
+
+        // Lines of the current batch, written with a single call on flush
+        private final StringBuilder batch = new StringBuilder(8192);
+
+        StreamOutput(PrintStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(CharSequence line) {
+            batch.append(line).append('\n');
+        }
+
+        @Override
+        public void flush() {
+            stream.append(batch);
+            stream.flush();
+            batch.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.kaivu.vertxweb.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring of preallocated {@link StructuredEvent} slots with many producers and a
+ * single consumer.
+ *
+ * <p>Each slot has a sequence number telling whose turn it is: a producer may claim slot {@code p}
+ * when its sequence equals {@code p}, publishes it by setting {@code p + 1}, and the consumer frees it
+ * for the next lap by setting {@code p + capacity}. Producers only contend on one CAS of the tail and
+ * never wait: when the ring is full, {@link #claim()} fails and the event is dropped.
+ */
+final class EventRing {
+
+    private final StructuredEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Consumer-side position, only touched by the writer thread
+    private long head;
+
+    EventRing(int requestedCapacity) {
+        // Smallest power of two holding the requested capacity, at least 2
+        int capacity = Math.max(2, Integer.highestOneBit(requestedCapacity - 1) << 1);
+        this.slots = new StructuredEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new StructuredEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Claims the next free slot for writing, or returns {@code null} when the ring is full. A claimed
+     * slot must be handed back through {@link #publish}.
+     */
+    StructuredEvent claim() {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    StructuredEvent slot = slots[index];
+                    slot.sequence = position;
+                    return slot;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer has not freed this slot yet: full
+                return null;
+            } else {
+                // Another producer claimed it first
+                position = tail.get();
+            }
+        }
+    }
+
+    void publish(StructuredEvent slot) {
+        sequences.set((int) (slot.sequence & mask), slot.sequence + 1);
+    }
+
+    /**
+     * Hands up to {@code maxEvents} published events to the handler in order and frees their slots.
+     * Single consumer only.
+     *
+     * @return the number of events drained
+     */
+    int drain(Consumer<StructuredEvent> handler, int maxEvents) {
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            StructuredEvent slot = slots[index];
+            handler.accept(slot);
+            slot.clear();
+            sequences.set(index, head + slots.length);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.kaivu.vertxweb.logging;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether an event is recorded, before anything is copied into the ring.
+ *
+ * <p>Events below the minimum level are discarded. Errors and events slower than the slow threshold
+ * are always kept. Everything else is kept at the sample rate configured for its name, or the default
+ * rate. Sampling is keyed on the correlation id, so all sampled events of one request are kept
+ * together rather than scattered across requests.
+ */
+public final class EventSampler {
+
+    private final EventLevel minimumLevel;
+    private final double defaultRate;
+    private final Map<String, Double> rates;
+    private final long slowThresholdMs;
+
+    public EventSampler(EventLevel minimumLevel, double defaultRate, Map<String, Double> rates, long slowThresholdMs) {
+        this.minimumLevel = minimumLevel;
+        this.defaultRate = defaultRate;
+        this.rates = new HashMap<>(rates);
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    /**
+     * Parses per-event rates written as {@code name=rate} pairs separated by commas, e.g.
+     * {@code service_operation_start=0.1,request_received=0.5}.
+     *
+     * @throws IllegalArgumentException for malformed pairs or rates outside [0, 1]
+     */
+    public static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> rates = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return rates;
+        }
+        for (String pair : spec.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid sample rate '" + pair.trim() + "', expected name=rate");
+            }
+            double rate = Double.parseDouble(pair.substring(separator + 1).trim());
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + pair.trim());
+            }
+            rates.put(pair.substring(0, separator).trim(), rate);
+        }
+        return rates;
+    }
+
+    boolean shouldRecord(EventLevel level, String name, CorrelationContext context, long durationMs) {
+        if (level.compareTo(minimumLevel) < 0) {
+            return false;
+        }
+        if (level == EventLevel.ERROR || (slowThresholdMs > 0 && durationMs >= slowThresholdMs)) {
+            return true;
+        }
+        Double configured = rates.get(name);
+        double rate = configured != null ? configured : defaultRate;
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        return sampleKey(context) < rate;
+    }
+
+    // Uniform value in [0, 1) derived from the correlation id's cached hash, random without one
+    private static double sampleKey(CorrelationContext context) {
+        String correlationId = context != null ? context.getCorrelationId() : null;
+        if (correlationId == null) {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+        int mixed = correlationId.hashCode() * 0x9E3779B9;
+        return (mixed >>> 1) / (double) (1L << 31);
+    }
+}
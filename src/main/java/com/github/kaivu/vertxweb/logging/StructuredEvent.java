@@ -0,0 +1,122 @@
+package com.github.kaivu.vertxweb.logging;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import java.util.Map;
+
+/**
+ * One slot of the {@link EventRing}. Slots are allocated once and reused. Publishing an event copies
+ * its correlation ids and a snapshot of the context's attributes into the slot, so the writer thread
+ * never reads a {@code CorrelationContext} that request threads may still be changing.
+ */
+final class StructuredEvent {
+
+    long sequence;
+    long timestampMillis;
+    EventLevel level;
+    String name;
+    String correlationId;
+    String requestId;
+    String userId;
+    String tenantId;
+    String traceId;
+    Map<String, Object> attributes;
+    long durationMs;
+    Object[] fields;
+
+    void clear() {
+        level = null;
+        name = null;
+        correlationId = null;
+        requestId = null;
+        userId = null;
+        tenantId = null;
+        traceId = null;
+        attributes = null;
+        fields = null;
+    }
+
+    /**
+     * Copies what the event reports from the context. Called on the publishing thread.
+     */
+    void copyContext(CorrelationContext context) {
+        if (context == null) {
+            return;
+        }
+        correlationId = context.getCorrelationId();
+        requestId = context.getRequestId();
+        userId = context.getUserId();
+        tenantId = context.getTenantId();
+        traceId = context.getTraceId();
+        attributes = context.attributesSnapshot();
+    }
+
+    /**
+     * Appends the event as one JSON object, without a trailing newline. Called on the writer thread only.
+     */
+    void appendJson(StringBuilder out) {
+        out.append("{\"ts\":").append(timestampMillis);
+        appendField(out, "level", level.name());
+        appendField(out, "event", name);
+        appendField(out, CorrelationContext.CORRELATION_ID, correlationId);
+        appendField(out, CorrelationContext.REQUEST_ID, requestId);
+        appendField(out, CorrelationContext.USER_ID, userId);
+        appendField(out, CorrelationContext.TENANT_ID, tenantId);
+        appendField(out, CorrelationContext.TRACE_ID, traceId);
+        if (attributes != null) {
+            attributes.forEach((key, value) -> appendValue(out.append(','), key, value));
+        }
+        if (durationMs >= 0) {
+            out.append(",\"durationMs\":").append(durationMs);
+        }
+        if (fields != null) {
+            // Fields are key/value pairs; a trailing key without a value is kept under "arg"
+            for (int i = 0; i < fields.length; i += 2) {
+                boolean paired = i + 1 < fields.length;
+                String key = paired ? String.valueOf(fields[i]) : "arg";
+                appendValue(out.append(','), key, paired ? fields[i + 1] : fields[i]);
+            }
+        }
+        out.append('}');
+    }
+
+    private static void appendField(StringBuilder out, String key, String value) {
+        if (value != null) {
+            appendString(out.append(','), key);
+            appendString(out.append(':'), value);
+        }
+    }
+
+    private static void appendValue(StringBuilder out, String key, Object value) {
+        appendString(out, key);
+        out.append(':');
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
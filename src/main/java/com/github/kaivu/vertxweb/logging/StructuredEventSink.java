@@ -0,0 +1,148 @@
+package com.github.kaivu.vertxweb.logging;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous sink for structured events.
+ *
+ * <p>{@link #publish} runs on the caller's thread (usually an event loop) and does no formatting or
+ * I/O: the level and sampling checks come first, then the event's values are copied into a
+ * preallocated slot of a lock-free {@link EventRing}. When the ring is full the event is dropped and
+ * counted rather than blocking the caller. A daemon writer thread drains the ring in batches, encodes
+ * each event as one JSON line and hands the batch to the {@link EventOutput}. The writer polls; producers
+ * never wake it, so publishing costs no system call.
+ */
+public final class StructuredEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(StructuredEventSink.class);
+
+    private final EventRing ring;
+    private final EventSampler sampler;
+    private final EventOutput output;
+    private final int batchSize;
+    private final long idleParkNanos;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    // Writer-thread state
+    private final StringBuilder line = new StringBuilder(512);
+    private final Consumer<StructuredEvent> writeEvent = this::write;
+
+    private final Thread writer;
+    private volatile boolean running;
+
+    public StructuredEventSink(int bufferSize, int batchSize, long writerIdleMs, String output, EventSampler sampler) {
+        this.ring = new EventRing(bufferSize);
+        this.sampler = sampler;
+        this.output = EventOutput.forName(output);
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(writerIdleMs);
+        this.writer = new Thread(this::runWriter, "structured-event-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        writer.start();
+        log.info(
+                "Structured event sink started: buffer={}, batch={}, output={}",
+                ring.capacity(),
+                batchSize,
+                output.getClass().getSimpleName());
+    }
+
+    /**
+     * Stops the writer after it has drained the events already published.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records an event if it passes the level and sampling checks.
+     *
+     * @param level severity of the event
+     * @param name event name, e.g. {@code request_completed}
+     * @param context correlation context of the request, may be {@code null}
+     * @param durationMs duration the event reports, or {@code -1}; slow events bypass sampling
+     * @param fields alternating keys and values; the array is copied, its values are kept by reference
+     * @return {@code false} if the event was sampled out or dropped
+     */
+    public boolean publish(
+            EventLevel level, String name, CorrelationContext context, long durationMs, Object[] fields) {
+        if (!sampler.shouldRecord(level, name, context, durationMs)) {
+            sampledOut.increment();
+            return false;
+        }
+        StructuredEvent slot = ring.claim();
+        if (slot == null) {
+            dropped.increment();
+            return false;
+        }
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.level = level;
+        slot.name = name;
+        slot.copyContext(context);
+        slot.durationMs = durationMs;
+        slot.fields = fields != null ? fields.clone() : null;
+        ring.publish(slot);
+        published.increment();
+        return true;
+    }
+
+    public long published() {
+        return published.sum();
+    }
+
+    public long sampledOut() {
+        return sampledOut.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    private void runWriter() {
+        while (true) {
+            int drained = ring.drain(writeEvent, batchSize);
+            if (drained > 0) {
+                output.flush();
+                written.add(drained);
+            } else if (!running) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+        }
+    }
+
+    private void write(StructuredEvent event) {
+        line.setLength(0);
+        try {
+            event.appendJson(line);
+            output.write(line);
+        } catch (RuntimeException e) {
+            // A bad field value must not kill the writer
+            log.warn("Failed to write structured event {}", event.name, e);
+        }
+    }
+}
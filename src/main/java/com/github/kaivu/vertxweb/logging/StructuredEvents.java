@@ -0,0 +1,62 @@
+package com.github.kaivu.vertxweb.logging;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+
+/**
+ * Process-wide access to the installed {@link StructuredEventSink}.
+ *
+ * <p>Until a sink is installed (e.g. in benchmarks or when disabled by configuration), {@link #emit}
+ * reports {@code false} and callers fall back to synchronous logging.
+ */
+public final class StructuredEvents {
+
+    /**
+     * Field carrying an event's duration, as passed by request and operation events.
+     */
+    public static final String DURATION_FIELD = "duration_ms";
+
+    private static volatile StructuredEventSink sink;
+
+    private StructuredEvents() {
+        // Utility class
+    }
+
+    public static StructuredEventSink sink() {
+        return sink;
+    }
+
+    public static void install(StructuredEventSink installed) {
+        sink = installed;
+    }
+
+    /**
+     * Publishes an event to the installed sink. Events named {@code *_failed} or {@code *_error} are
+     * errors, which are never sampled out; the {@value #DURATION_FIELD} field, if any, is the duration
+     * checked against the slow-event threshold.
+     *
+     * @return {@code false} if no sink is installed, so the caller should log the event itself
+     */
+    public static boolean emit(String name, CorrelationContext context, Object[] fields) {
+        StructuredEventSink current = sink;
+        if (current == null) {
+            return false;
+        }
+        current.publish(levelOf(name), name, context, durationOf(fields), fields);
+        return true;
+    }
+
+    static EventLevel levelOf(String name) {
+        return name.endsWith("_failed") || name.endsWith("_error") ? EventLevel.ERROR : EventLevel.INFO;
+    }
+
+    static long durationOf(Object[] fields) {
+        if (fields != null) {
+            for (int i = 0; i + 1 < fields.length; i += 2) {
+                if (DURATION_FIELD.equals(fields[i]) && fields[i + 1] instanceof Number duration) {
+                    return duration.longValue();
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.HIGHEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.LOWEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.SIGNIFICANT_DIGITS;
+
+import io.vertx.core.Future;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.EventBus;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Event-bus message counts per consumer address and request/reply latency per address.
+ *
+ * <p>Received messages are counted by an inbound interceptor, so every consumer is covered without
+ * changes to its code. Reply latency is measured on the requesting side through {@link #timeReply}.
+ */
+public final class EventBusMetrics {
+
+    // Replies travel to generated addresses; counting them would create one series per request
+    private static final String REPLY_ADDRESS_PREFIX = "__vertx.reply.";
+
+    private final ConcurrentMap<String, LongAdder> received = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ReplyStats> replies = new ConcurrentHashMap<>();
+
+    EventBusMetrics() {}
+
+    void bind(EventBus eventBus) {
+        eventBus.addInboundInterceptor(this::onInbound);
+    }
+
+    /**
+     * Sends a request through the given supplier and records how long the reply took for that address.
+     *
+     * @param address the consumer address, used as the metrics key
+     * @param request sends the request, e.g. {@code () -> eventBus.request(address, body)}
+     * @return the reply future returned by the supplier
+     */
+    public <T> Future<T> timeReply(String address, Supplier<Future<T>> request) {
+        long startNanos = System.nanoTime();
+        return request.get().andThen(ar -> replyStats(address).record(System.nanoTime() - startNanos, ar.succeeded()));
+    }
+
+    /**
+     * Number of messages delivered per consumer address, ordered by address.
+     */
+    public Map<String, Long> receivedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        received.forEach((address, count) -> counts.put(address, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Reply statistics per requested address, ordered by address.
+     */
+    public Map<String, ReplyStats> replyStats() {
+        return new TreeMap<>(replies);
+    }
+
+    private void onInbound(DeliveryContext<Object> context) {
+        String address = context.message().address();
+        if (address != null && !address.startsWith(REPLY_ADDRESS_PREFIX)) {
+            LongAdder count = received.get(address);
+            if (count == null) {
+                count = received.computeIfAbsent(address, key -> new LongAdder());
+            }
+            count.increment();
+        }
+        context.next();
+    }
+
+    private ReplyStats replyStats(String address) {
+        ReplyStats stats = replies.get(address);
+        return stats != null ? stats : replies.computeIfAbsent(address, key -> new ReplyStats());
+    }
+
+    /**
+     * Reply latency histogram and failure count of one address.
+     */
+    public static final class ReplyStats {
+
+        private final AtomicHistogram latencies =
+                new AtomicHistogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final LongAdder failures = new LongAdder();
+
+        void record(long durationNanos, boolean succeeded) {
+            latencies.recordValue(Math.max(LOWEST_TRACKABLE_NANOS, Math.min(durationNanos, HIGHEST_TRACKABLE_NANOS)));
+            if (!succeeded) {
+                failures.increment();
+            }
+        }
+
+        /**
+         * A point-in-time copy of the reply latencies, in nanoseconds.
+         */
+        public Histogram latencies() {
+            Histogram copy = new Histogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            copy.add(latencies);
+            return copy;
+        }
+
+        public long failures() {
+            return failures.sum();
+        }
+    }
+}
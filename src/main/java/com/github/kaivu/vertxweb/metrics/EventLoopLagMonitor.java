@@ -0,0 +1,149 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long a task waits before an event loop runs it.
+ *
+ * <p>A dedicated daemon thread queues a probe on every event loop at a fixed interval; the delay until
+ * the probe runs is recorded in {@link EventLoopMetrics}. Only one probe per loop is in flight, so a
+ * blocked loop shows up as a growing pending time rather than a pile of queued probes. Because the
+ * monitor thread is not an event loop, it keeps measuring even when every loop is stuck.
+ */
+public final class EventLoopLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLoopLagMonitor.class);
+
+    /**
+     * Notified from the monitor thread when a loop's lag first crosses the threshold; notified again
+     * only after the lag has dropped back below it. Implementations must return quickly.
+     */
+    @FunctionalInterface
+    public interface LagListener {
+        void onThresholdExceeded(String loop, List<String> owners, long lagNanos);
+    }
+
+    private final Vertx vertx;
+    private final EventLoopMetrics metrics;
+    private final long probeIntervalMs;
+    private final long thresholdNanos;
+    private final long rotationIntervalMs;
+    private final LagListener listener;
+    private final List<Probe> probes = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    public EventLoopLagMonitor(
+            Vertx vertx,
+            EventLoopMetrics metrics,
+            long probeIntervalMs,
+            long thresholdMs,
+            int windowSeconds,
+            LagListener listener) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.probeIntervalMs = probeIntervalMs;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.rotationIntervalMs = Math.max(1, TimeUnit.SECONDS.toMillis(windowSeconds) / EventLoopMetrics.WINDOW_SLOTS);
+        this.listener = listener;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+
+        // Bind each probe to its loop's thread name from within the loop itself
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            Probe probe = new Probe(executor);
+            probes.add(probe);
+            executor.execute(() -> probe.loop = metrics.loop(Thread.currentThread().getName()));
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-loop-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::probeAll, probeIntervalMs, probeIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(
+                this::rotateWindows, rotationIntervalMs, rotationIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info(
+                "Event loop lag monitor started: {} loops, probe interval {}ms, threshold {}ms",
+                probes.size(),
+                probeIntervalMs,
+                TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void probeAll() {
+        long now = System.nanoTime();
+        for (Probe probe : probes) {
+            try {
+                probe.tick(now);
+            } catch (RuntimeException e) {
+                // Rejected once Vert.x is closing, or a failing listener; never let it cancel the schedule
+                log.debug("Event loop probe failed", e);
+            }
+        }
+    }
+
+    private void rotateWindows() {
+        for (Probe probe : probes) {
+            EventLoopMetrics.LoopLag loop = probe.loop;
+            if (loop != null) {
+                loop.rotate();
+            }
+        }
+    }
+
+    private final class Probe {
+
+        private final EventExecutor executor;
+        private volatile EventLoopMetrics.LoopLag loop;
+
+        // Monitor thread only
+        private boolean thresholdExceeded;
+
+        Probe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        void tick(long now) {
+            EventLoopMetrics.LoopLag lag = loop;
+            if (lag == null) {
+                return;
+            }
+
+            long pending = lag.pendingNanos(now);
+            if (pending == 0) {
+                lag.probeScheduled(now);
+                executor.execute(lag::probeCompleted);
+            }
+
+            long observed = pending > 0 ? pending : lag.lastLagNanos();
+            if (observed < thresholdNanos) {
+                thresholdExceeded = false;
+            } else if (!thresholdExceeded) {
+                thresholdExceeded = true;
+                if (listener != null) {
+                    listener.onThresholdExceeded(lag.name(), List.copyOf(lag.owners()), observed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Rolling-window scheduling lag of one event loop.
+ *
+ * @param loop the event loop thread name
+ * @param owners verticle instances started on this loop, e.g. {@code AppVerticle#2}
+ * @param lag probe lag over the rolling window, in nanoseconds
+ * @param lastLagNanos lag of the most recent completed probe
+ * @param pendingNanos age of the probe still waiting to run, 0 if none; grows while the loop is blocked
+ */
+public record EventLoopLagSnapshot(
+        String loop, List<String> owners, Histogram lag, long lastLagNanos, long pendingNanos) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public JsonObject toJson() {
+        return new JsonObject()
+                .put("loop", loop)
+                .put("owners", new JsonArray(owners))
+                .put("probes", lag.getTotalCount())
+                .put("p50Ms", lag.getValueAtPercentile(50.0) / NANOS_PER_MILLI)
+                .put("p99Ms", lag.getValueAtPercentile(99.0) / NANOS_PER_MILLI)
+                .put("p999Ms", lag.getValueAtPercentile(99.9) / NANOS_PER_MILLI)
+                .put("maxMs", lag.getMaxValue() / NANOS_PER_MILLI)
+                .put("lastLagMs", lastLagNanos / NANOS_PER_MILLI)
+                .put("blockedMs", pendingNanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.HIGHEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.LOWEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.SIGNIFICANT_DIGITS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+
+/**
+ * Scheduling lag of every event loop, fed by {@link EventLoopLagMonitor}.
+ *
+ * <p>Loops are keyed by thread name, and each loop remembers which verticle instances were started on
+ * it, so a saturated loop can be traced back to the AppVerticle instance(s) it serves.
+ */
+public final class EventLoopMetrics {
+
+    // The rolling window is split into slots; the oldest slot is replaced on every rotation
+    static final int WINDOW_SLOTS = 6;
+
+    private final ConcurrentMap<String, LoopLag> loops = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> ownerSequences = new ConcurrentHashMap<>();
+
+    EventLoopMetrics() {}
+
+    /**
+     * Records that an instance of the given verticle runs on the calling event loop. Call from the
+     * verticle's start method.
+     *
+     * @return the instance label, e.g. {@code AppVerticle#2}
+     */
+    public String assignCurrentLoop(String verticleName) {
+        int sequence = ownerSequences
+                .computeIfAbsent(verticleName, key -> new AtomicInteger())
+                .incrementAndGet();
+        String owner = verticleName + "#" + sequence;
+        loop(Thread.currentThread().getName()).owners.add(owner);
+        return owner;
+    }
+
+    /**
+     * Per-loop lag over the rolling window, ordered by loop thread name.
+     */
+    public List<EventLoopLagSnapshot> snapshot() {
+        long now = System.nanoTime();
+        List<EventLoopLagSnapshot> snapshots = new ArrayList<>();
+        for (LoopLag loop : new TreeMap<>(loops).values()) {
+            snapshots.add(loop.snapshot(now));
+        }
+        return snapshots;
+    }
+
+    LoopLag loop(String threadName) {
+        LoopLag loop = loops.get(threadName);
+        return loop != null ? loop : loops.computeIfAbsent(threadName, LoopLag::new);
+    }
+
+    Map<String, LoopLag> loops() {
+        return loops;
+    }
+
+    /**
+     * Lag state of one event loop. Probes are scheduled and windows rotated by the monitor thread only;
+     * samples are recorded by the loop itself, which makes the recorder single-writer.
+     */
+    static final class LoopLag {
+
+        private final String name;
+        private final List<String> owners = new CopyOnWriteArrayList<>();
+        private final SingleWriterRecorder recorder =
+                new SingleWriterRecorder(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final AtomicReferenceArray<Histogram> window = new AtomicReferenceArray<>(WINDOW_SLOTS);
+        private int nextSlot;
+
+        // System.nanoTime() when the pending probe was queued, 0 when no probe is waiting
+        private volatile long probeScheduledAt;
+        private volatile long lastLagNanos;
+
+        LoopLag(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        List<String> owners() {
+            return owners;
+        }
+
+        long lastLagNanos() {
+            return lastLagNanos;
+        }
+
+        long pendingNanos(long now) {
+            long scheduledAt = probeScheduledAt;
+            return scheduledAt == 0 ? 0 : now - scheduledAt;
+        }
+
+        void probeScheduled(long now) {
+            probeScheduledAt = now;
+        }
+
+        /**
+         * Runs on the event loop once the probe gets its turn.
+         */
+        void probeCompleted() {
+            long lag = System.nanoTime() - probeScheduledAt;
+            recorder.recordValue(Math.max(LOWEST_TRACKABLE_NANOS, Math.min(lag, HIGHEST_TRACKABLE_NANOS)));
+            lastLagNanos = lag;
+            probeScheduledAt = 0;
+        }
+
+        void rotate() {
+            window.set(nextSlot, recorder.getIntervalHistogram());
+            nextSlot = (nextSlot + 1) % WINDOW_SLOTS;
+        }
+
+        EventLoopLagSnapshot snapshot(long now) {
+            Histogram merged = new Histogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            for (int i = 0; i < WINDOW_SLOTS; i++) {
+                Histogram slot = window.get(i);
+                if (slot != null) {
+                    merged.add(slot);
+                }
+            }
+            return new EventLoopLagSnapshot(name, List.copyOf(owners), merged, lastLagNanos, pendingNanos(now));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import com.github.kaivu.vertxweb.patterns.AdaptiveConcurrencyLimiter;
+import com.github.kaivu.vertxweb.patterns.CircuitBreakerRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide home of the runtime metrics.
+ *
+ * <p>Every verticle instance builds its own Guice injector, so Guice singletons exist once per
+ * instance. Metrics have to be merged across all AppVerticle instances, so the registry is stored once
+ * per Vertx instance in local shared data and handed to Guice by {@code AppModule}.
+ */
+public final class MetricsRegistry implements Shareable {
+
+    private static final String SHARED_MAP_NAME = "app.metrics";
+    private static final String REGISTRY_KEY = "registry";
+
+    private final RequestMetrics requestMetrics = new RequestMetrics();
+    private final EventBusMetrics eventBusMetrics = new EventBusMetrics();
+    private final WorkerPoolMetrics workerPoolMetrics = new WorkerPoolMetrics();
+    private final EventLoopMetrics eventLoopMetrics = new EventLoopMetrics();
+    private final List<CircuitBreakerRegistry> circuitBreakerRegistries = new CopyOnWriteArrayList<>();
+    private final List<AdaptiveConcurrencyLimiter> concurrencyLimiters = new CopyOnWriteArrayList<>();
+
+    private MetricsRegistry() {}
+
+    /**
+     * Returns the registry shared by every verticle deployed on the given Vertx instance.
+     */
+    public static MetricsRegistry shared(Vertx vertx) {
+        LocalMap<String, MetricsRegistry> registries = vertx.sharedData().getLocalMap(SHARED_MAP_NAME);
+        MetricsRegistry registry = registries.get(REGISTRY_KEY);
+        if (registry != null) {
+            return registry;
+        }
+        MetricsRegistry created = new MetricsRegistry();
+        MetricsRegistry existing = registries.putIfAbsent(REGISTRY_KEY, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Installs the collectors that hook into Vert.x itself. Call once, right after the Vertx instance
+     * is created and before verticles are deployed.
+     */
+    public void bindTo(Vertx vertx) {
+        eventBusMetrics.bind(vertx.eventBus());
+    }
+
+    public RequestMetrics requests() {
+        return requestMetrics;
+    }
+
+    public EventBusMetrics eventBus() {
+        return eventBusMetrics;
+    }
+
+    public WorkerPoolMetrics workerPools() {
+        return workerPoolMetrics;
+    }
+
+    public EventLoopMetrics eventLoops() {
+        return eventLoopMetrics;
+    }
+
+    /**
+     * Circuit breaker registries are created per injector; each one registers itself here so its
+     * breakers can be reported together.
+     */
+    public void registerCircuitBreakers(CircuitBreakerRegistry registry) {
+        circuitBreakerRegistries.add(registry);
+    }
+
+    public List<CircuitBreakerRegistry> circuitBreakerRegistries() {
+        return circuitBreakerRegistries;
+    }
+
+    /**
+     * Concurrency limiters are shared by all verticle instances; each one registers itself here once,
+     * when its route group is first set up.
+     */
+    public void registerConcurrencyLimiter(AdaptiveConcurrencyLimiter limiter) {
+        concurrencyLimiters.add(limiter);
+    }
+
+    public List<AdaptiveConcurrencyLimiter> concurrencyLimiters() {
+        return concurrencyLimiters;
+    }
+}
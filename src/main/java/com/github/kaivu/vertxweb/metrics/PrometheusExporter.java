@@ -0,0 +1,290 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import com.github.kaivu.vertxweb.logging.StructuredEventSink;
+import com.github.kaivu.vertxweb.logging.StructuredEvents;
+import com.github.kaivu.vertxweb.patterns.AdaptiveConcurrencyLimiter;
+import com.github.kaivu.vertxweb.patterns.CircuitBreaker;
+import com.github.kaivu.vertxweb.patterns.CircuitBreakerMetrics;
+import com.github.kaivu.vertxweb.patterns.CircuitBreakerRegistry;
+import io.vertx.core.buffer.Buffer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Renders the {@link MetricsRegistry} and JVM statistics in the Prometheus text exposition format.
+ *
+ * <p>A scrape merges histograms across event loops and queries JMX, so {@link #scrape()} must run on a
+ * worker thread, never on an event loop.
+ */
+public final class PrometheusExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double MILLIS_PER_SECOND = 1_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+    private static final CircuitBreaker.State[] BREAKER_STATES = CircuitBreaker.State.values();
+    private static final String[] BREAKER_STATE_LABELS = {"closed", "open", "half_open"};
+
+    private final MetricsRegistry registry;
+
+    // Previous scrape size, used to size the next buffer so it rarely has to grow
+    private volatile int sizeHint = 8192;
+
+    public PrometheusExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Buffer scrape() {
+        PrometheusTextWriter writer = new PrometheusTextWriter(sizeHint);
+        writeRequests(writer);
+        writeCircuitBreakers(writer);
+        writeConcurrencyLimits(writer);
+        writeEventBus(writer);
+        writeWorkerPools(writer);
+        writeEventLoops(writer);
+        writeStructuredEvents(writer);
+        writeJvm(writer);
+
+        Buffer buffer = writer.buffer();
+        sizeHint = buffer.length() + buffer.length() / 8;
+        return buffer;
+    }
+
+    private void writeRequests(PrometheusTextWriter writer) {
+        String family = "http_server_requests_seconds";
+        writer.family(family, "summary", "HTTP request latency by route template and status class");
+        for (RouteLatencySnapshot snapshot : registry.requests().snapshot()) {
+            Histogram latencies = snapshot.latencies();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                writer.sample(family)
+                        .label("route", snapshot.route())
+                        .label("status_class", snapshot.statusClass())
+                        .label("quantile", QUANTILE_LABELS[i])
+                        .value(latencies.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND);
+            }
+            writer.sample(family, "_sum")
+                    .label("route", snapshot.route())
+                    .label("status_class", snapshot.statusClass())
+                    .value(latencies.getMean() * latencies.getTotalCount() / NANOS_PER_SECOND);
+            writer.sample(family, "_count")
+                    .label("route", snapshot.route())
+                    .label("status_class", snapshot.statusClass())
+                    .value(latencies.getTotalCount());
+        }
+    }
+
+    private void writeCircuitBreakers(PrometheusTextWriter writer) {
+        // Each verticle instance owns its breakers; aggregate them by name
+        Map<String, long[]> byName = new TreeMap<>();
+        for (CircuitBreakerRegistry breakers : registry.circuitBreakerRegistries()) {
+            for (CircuitBreakerMetrics metrics : breakers.getAllMetrics()) {
+                long[] totals = byName.computeIfAbsent(metrics.name(), key -> new long[BREAKER_STATES.length + 2]);
+                totals[metrics.state().ordinal()]++;
+                totals[BREAKER_STATES.length] += metrics.failureCount();
+                totals[BREAKER_STATES.length + 1] += metrics.successCount();
+            }
+        }
+
+        writer.family("circuit_breaker_state", "gauge", "Number of circuit breaker instances in each state");
+        byName.forEach((name, totals) -> {
+            for (int i = 0; i < BREAKER_STATES.length; i++) {
+                writer.sample("circuit_breaker_state")
+                        .label("name", name)
+                        .label("state", BREAKER_STATE_LABELS[i])
+                        .value(totals[i]);
+            }
+        });
+        writer.family("circuit_breaker_failures", "gauge", "Current failure count summed over instances");
+        byName.forEach((name, totals) -> writer.sample("circuit_breaker_failures")
+                .label("name", name)
+                .value(totals[BREAKER_STATES.length]));
+        writer.family("circuit_breaker_successes", "gauge", "Current success count summed over instances");
+        byName.forEach((name, totals) -> writer.sample("circuit_breaker_successes")
+                .label("name", name)
+                .value(totals[BREAKER_STATES.length + 1]));
+    }
+
+    private void writeConcurrencyLimits(PrometheusTextWriter writer) {
+        List<AdaptiveConcurrencyLimiter> limiters = registry.concurrencyLimiters();
+
+        writer.family("concurrency_limit", "gauge", "Current adaptive concurrency limit per route group");
+        limiters.forEach(limiter -> writer.sample("concurrency_limit")
+                .label("group", limiter.name())
+                .value(limiter.limit()));
+        writer.family("concurrency_in_flight", "gauge", "Requests currently admitted per route group");
+        limiters.forEach(limiter -> writer.sample("concurrency_in_flight")
+                .label("group", limiter.name())
+                .value(limiter.inFlight()));
+        writer.family(
+                "concurrency_rejected_total", "counter", "Requests rejected with 503 by the limit per route group");
+        limiters.forEach(limiter -> writer.sample("concurrency_rejected_total")
+                .label("group", limiter.name())
+                .value(limiter.rejected()));
+    }
+
+    private void writeEventBus(PrometheusTextWriter writer) {
+        EventBusMetrics eventBus = registry.eventBus();
+
+        writer.family("eventbus_messages_received_total", "counter", "Messages delivered per consumer address");
+        eventBus.receivedCounts()
+                .forEach((address, count) -> writer.sample("eventbus_messages_received_total")
+                        .label("address", address)
+                        .value(count));
+
+        String family = "eventbus_reply_seconds";
+        Map<String, EventBusMetrics.ReplyStats> replies = eventBus.replyStats();
+        writer.family(family, "summary", "Request/reply latency per address, measured by the requester");
+        replies.forEach((address, stats) -> {
+            Histogram latencies = stats.latencies();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                writer.sample(family)
+                        .label("address", address)
+                        .label("quantile", QUANTILE_LABELS[i])
+                        .value(latencies.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND);
+            }
+            writer.sample(family, "_sum")
+                    .label("address", address)
+                    .value(latencies.getMean() * latencies.getTotalCount() / NANOS_PER_SECOND);
+            writer.sample(family, "_count").label("address", address).value(latencies.getTotalCount());
+        });
+
+        writer.family("eventbus_reply_failures_total", "counter", "Requests that failed or timed out per address");
+        replies.forEach((address, stats) -> writer.sample("eventbus_reply_failures_total")
+                .label("address", address)
+                .value(stats.failures()));
+    }
+
+    private void writeWorkerPools(PrometheusTextWriter writer) {
+        Map<String, WorkerPoolMetrics.PoolCounters> pools = registry.workerPools().pools();
+
+        writer.family("worker_pool_queued_tasks", "gauge", "Blocking tasks waiting for a worker thread");
+        pools.forEach((name, pool) ->
+                writer.sample("worker_pool_queued_tasks").label("pool", name).value(pool.queued()));
+        writer.family("worker_pool_active_tasks", "gauge", "Blocking tasks currently running");
+        pools.forEach((name, pool) ->
+                writer.sample("worker_pool_active_tasks").label("pool", name).value(pool.active()));
+        writer.family("worker_pool_completed_tasks_total", "counter", "Blocking tasks completed");
+        pools.forEach((name, pool) ->
+                writer.sample("worker_pool_completed_tasks_total").label("pool", name).value(pool.completed()));
+
+        String queueWait = "worker_pool_queue_wait_seconds";
+        writer.family(queueWait, "summary", "Time from submission until a worker starts the task");
+        pools.forEach((name, pool) -> pool.operations()
+                .forEach((operation, timings) ->
+                        writeOperationSummary(writer, queueWait, name, operation, timings.queueWait())));
+
+        String execution = "worker_pool_execution_seconds";
+        writer.family(execution, "summary", "Time spent running the task on a worker");
+        pools.forEach((name, pool) -> pool.operations()
+                .forEach((operation, timings) ->
+                        writeOperationSummary(writer, execution, name, operation, timings.execution())));
+    }
+
+    private static void writeOperationSummary(
+            PrometheusTextWriter writer, String family, String pool, String operation, Histogram timings) {
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            writer.sample(family)
+                    .label("pool", pool)
+                    .label("operation", operation)
+                    .label("quantile", QUANTILE_LABELS[i])
+                    .value(timings.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND);
+        }
+        writer.sample(family, "_sum")
+                .label("pool", pool)
+                .label("operation", operation)
+                .value(timings.getMean() * timings.getTotalCount() / NANOS_PER_SECOND);
+        writer.sample(family, "_count")
+                .label("pool", pool)
+                .label("operation", operation)
+                .value(timings.getTotalCount());
+    }
+
+    private void writeEventLoops(PrometheusTextWriter writer) {
+        List<EventLoopLagSnapshot> loops = registry.eventLoops().snapshot();
+
+        String family = "vertx_eventloop_lag_seconds";
+        writer.family(family, "summary", "Event loop scheduling lag over the rolling window");
+        for (EventLoopLagSnapshot loop : loops) {
+            String owners = String.join(",", loop.owners());
+            Histogram lag = loop.lag();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                writer.sample(family)
+                        .label("loop", loop.loop())
+                        .label("owners", owners)
+                        .label("quantile", QUANTILE_LABELS[i])
+                        .value(lag.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND);
+            }
+            writer.sample(family, "_sum")
+                    .label("loop", loop.loop())
+                    .label("owners", owners)
+                    .value(lag.getMean() * lag.getTotalCount() / NANOS_PER_SECOND);
+            writer.sample(family, "_count")
+                    .label("loop", loop.loop())
+                    .label("owners", owners)
+                    .value(lag.getTotalCount());
+        }
+
+        writer.family("vertx_eventloop_blocked_seconds", "gauge", "Age of the probe still waiting on the loop");
+        for (EventLoopLagSnapshot loop : loops) {
+            writer.sample("vertx_eventloop_blocked_seconds")
+                    .label("loop", loop.loop())
+                    .value(loop.pendingNanos() / NANOS_PER_SECOND);
+        }
+    }
+
+    private void writeStructuredEvents(PrometheusTextWriter writer) {
+        StructuredEventSink sink = StructuredEvents.sink();
+        if (sink == null) {
+            return;
+        }
+        writer.family("structured_events_published_total", "counter", "Structured events accepted into the buffer");
+        writer.sample("structured_events_published_total").value(sink.published());
+        writer.family("structured_events_sampled_out_total", "counter", "Structured events discarded by sampling");
+        writer.sample("structured_events_sampled_out_total").value(sink.sampledOut());
+        writer.family("structured_events_dropped_total", "counter", "Structured events dropped on a full buffer");
+        writer.sample("structured_events_dropped_total").value(sink.dropped());
+        writer.family("structured_events_written_total", "counter", "Structured events written by the sink");
+        writer.sample("structured_events_written_total").value(sink.written());
+    }
+
+    private void writeJvm(PrometheusTextWriter writer) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+
+        writer.family("jvm_memory_used_bytes", "gauge", "Used JVM memory by area");
+        writer.sample("jvm_memory_used_bytes").label("area", "heap").value(heap.getUsed());
+        writer.sample("jvm_memory_used_bytes").label("area", "nonheap").value(nonHeap.getUsed());
+        writer.family("jvm_memory_committed_bytes", "gauge", "Committed JVM memory by area");
+        writer.sample("jvm_memory_committed_bytes").label("area", "heap").value(heap.getCommitted());
+        writer.sample("jvm_memory_committed_bytes").label("area", "nonheap").value(nonHeap.getCommitted());
+        writer.family("jvm_memory_max_bytes", "gauge", "Maximum JVM memory by area, -1 when undefined");
+        writer.sample("jvm_memory_max_bytes").label("area", "heap").value(heap.getMax());
+        writer.sample("jvm_memory_max_bytes").label("area", "nonheap").value(nonHeap.getMax());
+
+        writer.family("jvm_memory_pool_used_bytes", "gauge", "Used memory by JVM memory pool");
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            writer.sample("jvm_memory_pool_used_bytes").label("pool", pool.getName()).value(pool.getUsage().getUsed());
+        }
+
+        String family = "jvm_gc_collection_seconds";
+        writer.family(family, "summary", "Time spent in garbage collection by collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.sample(family, "_count").label("gc", gc.getName()).value(gc.getCollectionCount());
+            writer.sample(family, "_sum").label("gc", gc.getName()).value(gc.getCollectionTime() / MILLIS_PER_SECOND);
+        }
+
+        writer.family("jvm_threads_current", "gauge", "Live JVM threads");
+        writer.sample("jvm_threads_current").value(ManagementFactory.getThreadMXBean().getThreadCount());
+        writer.family("process_uptime_seconds", "gauge", "JVM uptime");
+        writer.sample("process_uptime_seconds")
+                .value(ManagementFactory.getRuntimeMXBean().getUptime() / MILLIS_PER_SECOND);
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Appends samples in the Prometheus text exposition format (version 0.0.4) straight into a
+ * {@link Buffer}.
+ *
+ * <p>Metric and label names are ASCII and written byte by byte, and integral values are formatted
+ * without going through {@code String}, so a scrape allocates little beyond the buffer itself.
+ *
+ * <pre>{@code
+ * writer.family("jvm_threads_current", "gauge", "Live JVM threads");
+ * writer.sample("jvm_threads_current").value(42);
+ * writer.sample("worker_pool_queued_tasks").label("pool", "app-worker-pool").value(3);
+ * }</pre>
+ */
+public final class PrometheusTextWriter {
+
+    // Integral doubles below this bound are written exactly as longs
+    private static final double MAX_EXACT_LONG = 1e15;
+
+    private final Buffer buffer;
+    private final byte[] digits = new byte[20];
+    private boolean labelsOpen;
+
+    public PrometheusTextWriter(int initialSizeHint) {
+        this.buffer = Buffer.buffer(initialSizeHint);
+    }
+
+    /**
+     * Writes the {@code # HELP} and {@code # TYPE} lines of a metric family.
+     */
+    public PrometheusTextWriter family(String name, String type, String help) {
+        ascii("# HELP ").ascii(name).appendByte(' ').ascii(help).appendByte('\n');
+        ascii("# TYPE ").ascii(name).appendByte(' ').ascii(type).appendByte('\n');
+        return this;
+    }
+
+    /**
+     * Starts a sample line; follow with any number of {@link #label} calls and exactly one {@code value}.
+     */
+    public PrometheusTextWriter sample(String name) {
+        ascii(name);
+        labelsOpen = false;
+        return this;
+    }
+
+    /**
+     * Starts a sample line whose name is {@code family + suffix}, e.g. {@code _count} of a summary.
+     */
+    public PrometheusTextWriter sample(String family, String suffix) {
+        ascii(family).ascii(suffix);
+        labelsOpen = false;
+        return this;
+    }
+
+    public PrometheusTextWriter label(String name, String value) {
+        appendByte(labelsOpen ? ',' : '{');
+        labelsOpen = true;
+        ascii(name).ascii("=\"");
+        escapedLabelValue(value);
+        return appendByte('"');
+    }
+
+    public void value(long value) {
+        closeLabels();
+        appendLong(value);
+        appendByte('\n');
+    }
+
+    public void value(double value) {
+        closeLabels();
+        if (Double.isNaN(value)) {
+            ascii("NaN");
+        } else if (Double.isInfinite(value)) {
+            ascii(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == Math.rint(value) && Math.abs(value) < MAX_EXACT_LONG) {
+            appendLong((long) value);
+        } else {
+            ascii(Double.toString(value));
+        }
+        appendByte('\n');
+    }
+
+    public Buffer buffer() {
+        return buffer;
+    }
+
+    private void closeLabels() {
+        if (labelsOpen) {
+            appendByte('}');
+            labelsOpen = false;
+        }
+        appendByte(' ');
+    }
+
+    private void escapedLabelValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                // Rare in practice (route templates and addresses are ASCII): fall back to UTF-8 encoding
+                buffer.appendString(escape(value.substring(i)));
+                return;
+            }
+            switch (c) {
+                case '\\' -> ascii("\\\\");
+                case '"' -> ascii("\\\"");
+                case '\n' -> ascii("\\n");
+                default -> appendByte(c);
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private void appendLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            appendByte('-');
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        buffer.appendBytes(digits, position, digits.length - position);
+    }
+
+    private PrometheusTextWriter ascii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer.appendByte((byte) value.charAt(i));
+        }
+        return this;
+    }
+
+    private PrometheusTextWriter appendByte(char c) {
+        buffer.appendByte((byte) c);
+        return this;
+    }
+}
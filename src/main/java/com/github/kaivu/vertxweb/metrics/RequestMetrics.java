@@ -0,0 +1,130 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * HTTP request latency histograms keyed by route template and status class.
+ *
+ * <p>Each recording thread (in practice, each event loop) owns its own set of lock-free
+ * {@link AtomicHistogram}s, so recording never contends across loops. {@link #snapshot()} merges the
+ * per-loop histograms on the reading side.
+ */
+public final class RequestMetrics {
+
+    static final long LOWEST_TRACKABLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final String[] STATUS_CLASSES = {"other", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final List<LoopRecorder> recorders = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<LoopRecorder> currentRecorder = ThreadLocal.withInitial(this::newRecorder);
+
+    RequestMetrics() {}
+
+    /**
+     * Records one completed request on the calling thread's histograms.
+     *
+     * @param routeTemplate the matched route template (e.g. {@code /api/users/:id}), never the raw path
+     * @param statusCode the response status code
+     * @param durationNanos the request duration in nanoseconds
+     */
+    public void record(String routeTemplate, int statusCode, long durationNanos) {
+        currentRecorder.get().record(routeTemplate, statusClassIndex(statusCode), durationNanos);
+    }
+
+    /**
+     * Merges the histograms of every event loop into one histogram per route template and status class.
+     *
+     * @return snapshots ordered by route template, then status class
+     */
+    public List<RouteLatencySnapshot> snapshot() {
+        Map<String, Histogram[]> merged = new TreeMap<>();
+        for (LoopRecorder recorder : recorders) {
+            recorder.histograms.forEach((route, byStatus) -> {
+                Histogram[] target = merged.computeIfAbsent(route, key -> new Histogram[STATUS_CLASSES.length]);
+                for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                    AtomicHistogram source = byStatus.get(i);
+                    if (source == null) {
+                        continue;
+                    }
+                    if (target[i] == null) {
+                        target[i] = newMergeTarget();
+                    }
+                    target[i].add(source);
+                }
+            });
+        }
+
+        List<RouteLatencySnapshot> snapshots = new ArrayList<>();
+        merged.forEach((route, byStatus) -> {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                if (byStatus[i] != null) {
+                    snapshots.add(new RouteLatencySnapshot(route, STATUS_CLASSES[i], byStatus[i]));
+                }
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Number of threads that have recorded at least one request.
+     */
+    public int recordingThreads() {
+        return recorders.size();
+    }
+
+    private LoopRecorder newRecorder() {
+        LoopRecorder recorder = new LoopRecorder();
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    private static int statusClassIndex(int statusCode) {
+        int statusClass = statusCode / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass : 0;
+    }
+
+    private static Histogram newMergeTarget() {
+        return new Histogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Histograms written by a single event loop. Histograms are created lazily per status class so a route
+     * that only ever answers 2xx costs one histogram per loop.
+     */
+    private static final class LoopRecorder {
+
+        private final ConcurrentMap<String, AtomicReferenceArray<AtomicHistogram>> histograms =
+                new ConcurrentHashMap<>();
+
+        void record(String routeTemplate, int statusClassIndex, long durationNanos) {
+            AtomicReferenceArray<AtomicHistogram> byStatus = histograms.get(routeTemplate);
+            if (byStatus == null) {
+                byStatus = histograms.computeIfAbsent(
+                        routeTemplate, key -> new AtomicReferenceArray<>(STATUS_CLASSES.length));
+            }
+
+            AtomicHistogram histogram = byStatus.get(statusClassIndex);
+            if (histogram == null) {
+                byStatus.compareAndSet(
+                        statusClassIndex,
+                        null,
+                        new AtomicHistogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS));
+                histogram = byStatus.get(statusClassIndex);
+            }
+
+            histogram.recordValue(Math.max(LOWEST_TRACKABLE_NANOS, Math.min(durationNanos, HIGHEST_TRACKABLE_NANOS)));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import io.vertx.core.json.JsonObject;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Merged latency histogram of one route template and status class.
+ */
+public record RouteLatencySnapshot(String route, String statusClass, Histogram latencies) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public long count() {
+        return latencies.getTotalCount();
+    }
+
+    public JsonObject toJson() {
+        return new JsonObject()
+                .put("route", route)
+                .put("statusClass", statusClass)
+                .put("count", count())
+                .put("p50Ms", percentileMs(50.0))
+                .put("p90Ms", percentileMs(90.0))
+                .put("p99Ms", percentileMs(99.0))
+                .put("p999Ms", percentileMs(99.9))
+                .put("maxMs", latencies.getMaxValue() / NANOS_PER_MILLI)
+                .put("meanMs", latencies.getMean() / NANOS_PER_MILLI);
+    }
+
+    private double percentileMs(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
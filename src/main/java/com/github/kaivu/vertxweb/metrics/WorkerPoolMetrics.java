@@ -0,0 +1,208 @@
+package com.github.kaivu.vertxweb.metrics;
+
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.HIGHEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.LOWEST_TRACKABLE_NANOS;
+import static com.github.kaivu.vertxweb.metrics.RequestMetrics.SIGNIFICANT_DIGITS;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Task counters and per-operation timings for the worker pools used by {@code VertxWrapper.executeBlocking}.
+ *
+ * <p>Vert.x does not expose pool occupancy without a metrics SPI, so the counts are derived from the
+ * tasks submitted through the wrapper: queued = submitted - started, active = started - completed.
+ * Queue wait (submission to start) and execution time are recorded separately per operation name, which
+ * tells pool starvation apart from slow work.
+ */
+public final class WorkerPoolMetrics {
+
+    /**
+     * Name of the pool used by blocking code submitted from an event-loop context.
+     */
+    public static final String DEFAULT_POOL_NAME = "vert.x-worker-thread";
+
+    private final ConcurrentMap<String, PoolCounters> pools = new ConcurrentHashMap<>();
+
+    WorkerPoolMetrics() {}
+
+    /**
+     * Counters of the pool that blocking code submitted from the calling thread will run on.
+     */
+    public PoolCounters currentPool() {
+        return pool(currentPoolName());
+    }
+
+    public PoolCounters pool(String poolName) {
+        PoolCounters counters = pools.get(poolName);
+        return counters != null ? counters : pools.computeIfAbsent(poolName, PoolCounters::new);
+    }
+
+    /**
+     * All pools seen so far, ordered by name.
+     */
+    public Map<String, PoolCounters> pools() {
+        return new TreeMap<>(pools);
+    }
+
+    /**
+     * Blocking code runs on the worker pool of the submitting context: event-loop contexts use the
+     * default pool, worker verticles use the pool they were deployed with (e.g. {@code app-worker-pool}).
+     * Worker threads are named {@code <pool name>-<index>}, so the pool is recovered from the thread name.
+     */
+    static String currentPoolName() {
+        Context context = Vertx.currentContext();
+        if (context == null || !context.isWorkerContext()) {
+            return DEFAULT_POOL_NAME;
+        }
+        return poolNameOf(Thread.currentThread().getName());
+    }
+
+    static String poolNameOf(String threadName) {
+        int separator = threadName.lastIndexOf('-');
+        if (separator <= 0 || separator == threadName.length() - 1) {
+            return threadName;
+        }
+        for (int i = separator + 1; i < threadName.length(); i++) {
+            if (!Character.isDigit(threadName.charAt(i))) {
+                return threadName;
+            }
+        }
+        return threadName.substring(0, separator);
+    }
+
+    /**
+     * Lifecycle counters of one worker pool.
+     */
+    public static final class PoolCounters {
+
+        private final String name;
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final ConcurrentMap<String, OperationTimings> operations = new ConcurrentHashMap<>();
+
+        PoolCounters(String name) {
+            this.name = name;
+        }
+
+        public OperationTimings operation(String operation) {
+            OperationTimings timings = operations.get(operation);
+            return timings != null ? timings : operations.computeIfAbsent(operation, key -> new OperationTimings());
+        }
+
+        /**
+         * Timings of every operation run on this pool, ordered by operation name.
+         */
+        public Map<String, OperationTimings> operations() {
+            return new TreeMap<>(operations);
+        }
+
+        public void onSubmitted() {
+            submitted.increment();
+        }
+
+        public void onStarted() {
+            started.increment();
+        }
+
+        public void onCompleted() {
+            completed.increment();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long queued() {
+            return Math.max(0, submitted.sum() - started.sum());
+        }
+
+        public long active() {
+            return Math.max(0, started.sum() - completed.sum());
+        }
+
+        public long completed() {
+            return completed.sum();
+        }
+
+        public JsonObject toJson() {
+            JsonArray operationsJson = new JsonArray();
+            operations().forEach((operation, timings) -> operationsJson.add(timings.toJson(operation)));
+            return new JsonObject()
+                    .put("pool", name)
+                    .put("queued", queued())
+                    .put("active", active())
+                    .put("completed", completed())
+                    .put("operations", operationsJson);
+        }
+    }
+
+    /**
+     * Queue wait and execution time histograms of one operation on one pool.
+     */
+    public static final class OperationTimings {
+
+        private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+        private final AtomicHistogram queueWait =
+                new AtomicHistogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final AtomicHistogram execution =
+                new AtomicHistogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+
+        public void recordQueueWait(long nanos) {
+            queueWait.recordValue(clamp(nanos));
+        }
+
+        public void recordExecution(long nanos) {
+            execution.recordValue(clamp(nanos));
+        }
+
+        /**
+         * A point-in-time copy of the time tasks spent waiting for a worker thread, in nanoseconds.
+         */
+        public Histogram queueWait() {
+            return copyOf(queueWait);
+        }
+
+        /**
+         * A point-in-time copy of the time tasks spent running, in nanoseconds.
+         */
+        public Histogram execution() {
+            return copyOf(execution);
+        }
+
+        JsonObject toJson(String operation) {
+            Histogram waits = queueWait();
+            Histogram runs = execution();
+            return new JsonObject()
+                    .put("operation", operation)
+                    .put("count", runs.getTotalCount())
+                    .put("queueWaitP50Ms", waits.getValueAtPercentile(50.0) / NANOS_PER_MILLI)
+                    .put("queueWaitP99Ms", waits.getValueAtPercentile(99.0) / NANOS_PER_MILLI)
+                    .put("queueWaitMaxMs", waits.getMaxValue() / NANOS_PER_MILLI)
+                    .put("executionP50Ms", runs.getValueAtPercentile(50.0) / NANOS_PER_MILLI)
+                    .put("executionP99Ms", runs.getValueAtPercentile(99.0) / NANOS_PER_MILLI)
+                    .put("executionMaxMs", runs.getMaxValue() / NANOS_PER_MILLI);
+        }
+
+        private static long clamp(long nanos) {
+            return Math.max(LOWEST_TRACKABLE_NANOS, Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        }
+
+        private static Histogram copyOf(Histogram source) {
+            Histogram copy = new Histogram(LOWEST_TRACKABLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            copy.add(source);
+            return copy;
+        }
+    }
+}
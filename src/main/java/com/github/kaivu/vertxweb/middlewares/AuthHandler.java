@@ -2,6 +2,7 @@ package com.github.kaivu.vertxweb.middlewares;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.web.JsonResponseWriter;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.vertx.core.http.HttpHeaders;
@@ -44,13 +45,12 @@ public class AuthHandler {
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             log.warn("Unauthorized request to protected endpoint: {}", path);
-            ctx.response()
-                    .putHeader(HttpHeaders.CONTENT_TYPE, AppConstants.Http.CONTENT_TYPE_JSON)
-                    .setStatusCode(AppConstants.Status.UNAUTHORIZED)
-                    .end(new JsonObject()
+            JsonResponseWriter.send(
+                    ctx,
+                    AppConstants.Status.UNAUTHORIZED,
+                    new JsonObject()
                             .put("error", "Unauthorized")
-                            .put("message", "Missing or invalid authorization header")
-                            .encode());
+                            .put("message", "Missing or invalid authorization header"));
             return;
         }
 
@@ -59,13 +59,12 @@ public class AuthHandler {
         String token = authHeader.substring(7); // Remove "Bearer " prefix
         if (token.isEmpty()) {
             log.warn("Empty token for protected endpoint: {}", path);
-            ctx.response()
-                    .putHeader(HttpHeaders.CONTENT_TYPE, AppConstants.Http.CONTENT_TYPE_JSON)
-                    .setStatusCode(AppConstants.Status.UNAUTHORIZED)
-                    .end(new JsonObject()
+            JsonResponseWriter.send(
+                    ctx,
+                    AppConstants.Status.UNAUTHORIZED,
+                    new JsonObject()
                             .put("error", "Unauthorized")
-                            .put("message", "Empty authorization token")
-                            .encode());
+                            .put("message", "Empty authorization token"));
             return;
         }
 
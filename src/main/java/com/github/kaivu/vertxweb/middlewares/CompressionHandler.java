@@ -0,0 +1,74 @@
+package com.github.kaivu.vertxweb.middlewares;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides per response whether the server's gzip/deflate compression applies: only configured content
+ * types are compressed, and only when the body is at least the configured size (bodies of unknown
+ * length, i.e. chunked streams, are compressed). Other responses are marked {@code Content-Encoding:
+ * identity}, which tells the compressor to pass them through and is removed before sending.
+ *
+ * <p>Responses that already carry a Content-Encoding, such as precompressed bodies, are left untouched.
+ */
+@Singleton
+public class CompressionHandler {
+
+    private final boolean enabled;
+    private final int minSizeBytes;
+    private final Set<String> contentTypes;
+
+    @Inject
+    public CompressionHandler(ApplicationConfig appConfig) {
+        ApplicationConfig.ServerConfig server = appConfig.server();
+        this.enabled = server.compressionEnabled();
+        this.minSizeBytes = server.compressionMinSizeBytes();
+        this.contentTypes = Arrays.stream(server.compressionContentTypes().split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void applyPolicy(RoutingContext ctx) {
+        // Nothing to decide when compression is off or the client does not accept it
+        if (enabled && ctx.request().headers().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            ctx.addHeadersEndHandler(ignored -> {
+                MultiMap headers = ctx.response().headers();
+                if (!headers.contains(HttpHeaders.CONTENT_ENCODING) && !isCompressible(headers)) {
+                    headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                }
+            });
+        }
+        ctx.next();
+    }
+
+    private boolean isCompressible(MultiMap headers) {
+        String length = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (length != null && parseLength(length) < minSizeBytes) {
+            return false;
+        }
+        String contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int end = contentType.indexOf(';');
+        String mediaType = end >= 0 ? contentType.substring(0, end) : contentType;
+        return contentTypes.contains(mediaType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static long parseLength(String length) {
+        try {
+            return Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
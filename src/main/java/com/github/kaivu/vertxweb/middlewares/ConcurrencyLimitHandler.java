@@ -0,0 +1,84 @@
+package com.github.kaivu.vertxweb.middlewares;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import com.github.kaivu.vertxweb.patterns.AdaptiveConcurrencyLimiter;
+import com.github.kaivu.vertxweb.patterns.ConcurrencyLimiterConfig;
+import com.github.kaivu.vertxweb.patterns.ConcurrencyLimiters;
+import com.github.kaivu.vertxweb.web.JsonResponseWriter;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control for API route groups. Each group has an {@link AdaptiveConcurrencyLimiter} shared
+ * by every {@code AppVerticle} instance; a request over its group's limit is answered at once with 503
+ * and {@code Retry-After}, before its body is read or any work is queued for it.
+ *
+ * <p>A request belongs to the first group whose route it matches, so register the narrower groups
+ * first. Its slot is released when the response ends or the connection closes.
+ */
+@Singleton
+public class ConcurrencyLimitHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitHandler.class);
+    private static final String ADMITTED_KEY = "concurrencyLimitAdmitted";
+
+    private final boolean enabled;
+    private final String retryAfter;
+    private final ConcurrencyLimiterConfig limiterConfig;
+    private final ConcurrencyLimiters limiters;
+    private final Buffer rejectedBody;
+
+    @Inject
+    public ConcurrencyLimitHandler(ApplicationConfig appConfig, ConcurrencyLimiters limiters) {
+        ApplicationConfig.ConcurrencyLimitConfig config = appConfig.concurrencyLimit();
+        this.enabled = config.enabled();
+        this.retryAfter = Integer.toString(config.retryAfterSeconds());
+        this.limiterConfig = new ConcurrencyLimiterConfig(
+                config.initialLimit(),
+                config.minLimit(),
+                config.maxLimit(),
+                config.windowMs(),
+                config.minWindowSamples(),
+                config.tolerance(),
+                config.smoothing());
+        this.limiters = limiters;
+        // Rejections happen under overload, so their body is encoded once
+        this.rejectedBody = JsonBuffers.encode(new JsonObject()
+                .put("error", "Server is at capacity, retry later")
+                .put("status", AppConstants.Status.SERVICE_UNAVAILABLE));
+    }
+
+    /**
+     * Returns the handler admitting requests of a route group.
+     */
+    public Handler<RoutingContext> limit(String group) {
+        if (!enabled) {
+            return RoutingContext::next;
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.limiter(group, limiterConfig);
+        log.debug("Concurrency limit for route group {} starts at {}", group, limiter.limit());
+        return ctx -> {
+            if (ctx.get(ADMITTED_KEY) != null) {
+                ctx.next();
+                return;
+            }
+            if (!limiter.tryAcquire()) {
+                ctx.response().putHeader("Retry-After", retryAfter);
+                JsonResponseWriter.send(ctx.response(), AppConstants.Status.SERVICE_UNAVAILABLE, rejectedBody);
+                return;
+            }
+            ctx.put(ADMITTED_KEY, Boolean.TRUE);
+            long start = System.nanoTime();
+            ctx.addEndHandler(ignored -> limiter.release(System.nanoTime() - start));
+            ctx.next();
+        };
+    }
+}
@@ -2,8 +2,10 @@ package com.github.kaivu.vertxweb.middlewares;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
-import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
 import com.github.kaivu.vertxweb.context.CorrelationContext;
+import com.github.kaivu.vertxweb.context.CorrelationScope;
+import com.github.kaivu.vertxweb.context.IdGenerators;
+import com.github.kaivu.vertxweb.web.JsonResponseWriter;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -11,7 +13,6 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,15 +37,11 @@ public class ErrorHandler {
         Throwable failure = ctx.failure();
         int statusCode = AppConstants.Status.INTERNAL_SERVER_ERROR;
         String message = "Internal Server Error";
-        String errorId = UUID.randomUUID().toString();
+        String errorId = IdGenerators.nextId();
 
         // Extract correlation context if available
-        ContextAwareVertxWrapper wrapper = ctx.get("contextWrapper");
-        String correlationId = null;
-        if (wrapper != null) {
-            CorrelationContext context = wrapper.getCorrelationContext();
-            correlationId = context.getCorrelationId();
-        }
+        CorrelationContext context = CorrelationScope.current();
+        String correlationId = context != null ? context.getCorrelationId() : null;
 
         // Determine error type and status
         if (failure instanceof ServiceException ex) {
@@ -61,8 +58,8 @@ public class ErrorHandler {
             message = failure.getMessage() != null ? failure.getMessage() : "Unexpected server error";
             log.error("Unexpected error [{}] correlationId={}: {}", errorId, correlationId, message, failure);
         } else {
-            // Handle cases where failure is null but status code indicates error
-            int responseStatus = ctx.response().getStatusCode();
+            // Handle cases where failure is null but status code indicates error, e.g. ctx.fail(413)
+            int responseStatus = ctx.statusCode() != -1 ? ctx.statusCode() : ctx.response().getStatusCode();
             if (responseStatus >= 400) {
                 statusCode = responseStatus;
                 message = getStandardErrorMessage(statusCode);
@@ -70,6 +67,20 @@ public class ErrorHandler {
             log.error("Error without throwable [{}] correlationId={}: status={}", errorId, correlationId, statusCode);
         }
 
+        // A streamed response may fail after its headers went out; no error body can follow them
+        if (ctx.response().headWritten() || ctx.response().closed()) {
+            log.warn(
+                    "Response already started [{}] correlationId={}: {} {} - resetting the stream",
+                    errorId,
+                    correlationId,
+                    ctx.request().method().name(),
+                    ctx.request().path());
+            if (!ctx.response().closed()) {
+                ctx.response().reset();
+            }
+            return;
+        }
+
         // Log request context for debugging
         String path = ctx.request().path();
         String method = ctx.request().method().name();
@@ -108,11 +119,9 @@ public class ErrorHandler {
 
         // Set appropriate headers and respond
         ctx.response()
-                .setStatusCode(statusCode)
-                .putHeader("Content-Type", AppConstants.Http.CONTENT_TYPE_JSON)
                 .putHeader("X-Error-ID", errorId)
-                .putHeader("X-Correlation-ID", correlationId != null ? correlationId : "none")
-                .end(errorResponse.encode());
+                .putHeader("X-Correlation-ID", correlationId != null ? correlationId : "none");
+        JsonResponseWriter.send(ctx, statusCode, errorResponse);
     }
 
     private String getStandardErrorMessage(int statusCode) {
@@ -125,6 +134,7 @@ public class ErrorHandler {
             case 408 -> "Request Timeout";
             case 409 -> "Conflict";
             case 410 -> "Gone";
+            case 413 -> "Payload Too Large";
             case 422 -> "Unprocessable Entity";
             case 429 -> "Too Many Requests";
             case 500 -> "Internal Server Error";
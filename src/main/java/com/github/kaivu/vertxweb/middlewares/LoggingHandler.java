@@ -1,9 +1,13 @@
 package com.github.kaivu.vertxweb.middlewares;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.metrics.RequestMetrics;
+import com.github.kaivu.vertxweb.web.RouteTemplates;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.vertx.ext.web.RoutingContext;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,27 +22,35 @@ public class LoggingHandler {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingHandler.class);
     private final ApplicationConfig applicationConfig;
+    private final RequestMetrics requestMetrics;
 
     @Inject
-    public LoggingHandler(ApplicationConfig applicationConfig) {
+    public LoggingHandler(ApplicationConfig applicationConfig, MetricsRegistry metricsRegistry) {
         this.applicationConfig = applicationConfig;
+        this.requestMetrics = metricsRegistry.requests();
     }
 
+    /**
+     * Records the request latency into the per-route histograms exposed by {@code /health/metrics}.
+     * The per-request log line is written at DEBUG only: at production request rates it costs more
+     * than the handlers themselves, and the histograms already carry the latency distribution.
+     */
     public void logRequest(RoutingContext ctx) {
-        // Only log requests if request logging is enabled
-        if (!applicationConfig.logging().enableRequestLogging()) {
-            ctx.next();
-            return;
-        }
-
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         ctx.addEndHandler(endHandler -> {
-            long duration = System.currentTimeMillis() - startTime;
+            long durationNanos = System.nanoTime() - startNanos;
             int statusCode = ctx.response().getStatusCode();
-            String method = ctx.request().method().name();
-            String path = ctx.request().path();
-
-            log.info("Request: {}, {} - Status: {} - Duration: {} ms", method, path, statusCode, duration);
+            requestMetrics.record(RouteTemplates.resolve(ctx), statusCode, durationNanos);
+
+            // Only log requests if request logging is enabled
+            if (applicationConfig.logging().enableRequestLogging() && log.isDebugEnabled()) {
+                log.debug(
+                        "Request: {}, {} - Status: {} - Duration: {} ms",
+                        ctx.request().method().name(),
+                        ctx.request().path(),
+                        statusCode,
+                        TimeUnit.NANOSECONDS.toMillis(durationNanos));
+            }
         });
 
         ctx.next(); // Continue with the next handler
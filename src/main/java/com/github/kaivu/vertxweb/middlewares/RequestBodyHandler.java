@@ -0,0 +1,140 @@
+package com.github.kaivu.vertxweb.middlewares;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The one body-handling stage of the API router. Only POST, PUT and PATCH requests have their body
+ * read; any other request passes through without buffering.
+ *
+ * <p>Bodies are buffered in memory up to {@code max-body-size-bytes}, or up to the limit configured
+ * for their route in {@code body-limits}; larger ones are answered with 413. File uploads are not
+ * written to disk unless a route opts in with {@link #uploads}. A route registered with
+ * {@link #streaming} is not buffered at all: its handler consumes {@code ctx.request()} as a
+ * {@code ReadStream<Buffer>}, which is left paused until it does.
+ *
+ * <p>Route policies are matched in registration order, before the default one; the first matching
+ * route decides how the body is read.
+ */
+@Singleton
+public class RequestBodyHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestBodyHandler.class);
+    private static final String HANDLED_KEY = "requestBodyHandled";
+    private static final Set<HttpMethod> BODY_METHODS = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
+
+    private final long maxBodySizeBytes;
+    private final String uploadsDirectory;
+    private final Map<String, Long> routeLimits;
+    private final BodyHandler defaultHandler;
+
+    @Inject
+    public RequestBodyHandler(ApplicationConfig appConfig) {
+        ApplicationConfig.ServerConfig server = appConfig.server();
+        this.maxBodySizeBytes = server.maxBodySizeBytes();
+        this.uploadsDirectory = server.uploadsDirectory();
+        this.routeLimits = parseLimits(server.bodyLimits().orElse(null));
+        this.defaultHandler = buffering(maxBodySizeBytes);
+    }
+
+    /**
+     * Installs the configured per-route limits, then the default policy for every other route. Call
+     * it after registering the route policies declared in code.
+     */
+    public void configure(Router router) {
+        routeLimits.forEach((path, limit) -> router.route(path).handler(policy(buffering(limit))));
+        router.route().handler(policy(defaultHandler));
+        log.info(
+                "Request bodies limited to {} bytes by default, per-route limits: {}", maxBodySizeBytes, routeLimits);
+    }
+
+    /**
+     * Buffers the bodies of a route up to {@code maxBytes}, and writes its file uploads to the
+     * uploads directory; they are deleted once the response has ended.
+     */
+    public void uploads(Router router, String path, long maxBytes) {
+        BodyHandler handler = BodyHandler.create(uploadsDirectory)
+                .setBodyLimit(maxBytes)
+                .setDeleteUploadedFilesOnEnd(true);
+        router.route(path).handler(policy(handler));
+    }
+
+    /**
+     * Leaves the bodies of a route unread for its handler to consume as a stream. Requests that
+     * announce a Content-Length above {@code maxBytes} are answered with 413; the handler must bound
+     * chunked bodies as it reads them, as {@code NdjsonImport} does.
+     */
+    public void streaming(Router router, HttpMethod method, String path, long maxBytes) {
+        router.route(method, path).handler(policy(ctx -> {
+            String length = ctx.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+            if (length != null && parseLength(length) > maxBytes) {
+                ctx.fail(AppConstants.Status.PAYLOAD_TOO_LARGE);
+                return;
+            }
+            ctx.request().pause();
+            ctx.next();
+        }));
+    }
+
+    // The first policy matching a request with a body handles it; later ones pass it on
+    private static Handler<RoutingContext> policy(Handler<RoutingContext> handler) {
+        return ctx -> {
+            if (!BODY_METHODS.contains(ctx.request().method()) || ctx.get(HANDLED_KEY) != null) {
+                ctx.next();
+                return;
+            }
+            ctx.put(HANDLED_KEY, Boolean.TRUE);
+            handler.handle(ctx);
+        };
+    }
+
+    private static BodyHandler buffering(long maxBytes) {
+        return BodyHandler.create(false).setBodyLimit(maxBytes).setPreallocateBodyBuffer(true);
+    }
+
+    /**
+     * Parses per-route limits written as {@code path=bytes} pairs separated by commas, e.g.
+     * {@code /api/users/*=65536,/api/products/batch/*=262144}. Paths are Vert.x route paths.
+     *
+     * @throws IllegalArgumentException for malformed pairs or negative limits
+     */
+    static Map<String, Long> parseLimits(String spec) {
+        Map<String, Long> limits = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return limits;
+        }
+        for (String pair : spec.split(",")) {
+            int separator = pair.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid body limit '" + pair.trim() + "', expected path=bytes");
+            }
+            long limit = Long.parseLong(pair.substring(separator + 1).trim());
+            if (limit < 0) {
+                throw new IllegalArgumentException("Body limit must not be negative: " + pair.trim());
+            }
+            limits.put(pair.substring(0, separator).trim(), limit);
+        }
+        return limits;
+    }
+
+    private static long parseLength(String length) {
+        try {
+            return Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.kaivu.vertxweb.middlewares;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.web.RequestDeadline;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Stamps every request with its deadline, {@code request-timeout-ms} after arrival (see
+ * {@link RequestDeadline}). Registered first, so time spent in the other middlewares counts too.
+ */
+@Singleton
+public class RequestDeadlineHandler {
+
+    private final long timeoutMs;
+
+    @Inject
+    public RequestDeadlineHandler(ApplicationConfig appConfig) {
+        this.timeoutMs = appConfig.server().requestTimeoutMs();
+    }
+
+    public void stamp(RoutingContext ctx) {
+        if (timeoutMs > 0) {
+            RequestDeadline.start(ctx, timeoutMs);
+        }
+        ctx.next();
+    }
+}
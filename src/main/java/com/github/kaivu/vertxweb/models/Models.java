@@ -0,0 +1,31 @@
+package com.github.kaivu.vertxweb.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Field readers shared by the model deserializers.
+ */
+final class Models {
+
+    private Models() {
+        // Utility class
+    }
+
+    /**
+     * Reads an ISO-8601 timestamp, {@code null} for a JSON null.
+     */
+    static Instant readInstant(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        try {
+            return Instant.parse(parser.getValueAsString());
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid timestamp for '" + parser.currentName() + "'", e);
+        }
+    }
+}
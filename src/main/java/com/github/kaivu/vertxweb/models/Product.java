@@ -0,0 +1,117 @@
+package com.github.kaivu.vertxweb.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kaivu.vertxweb.json.JsonWritable;
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * A product as returned by the product endpoints. {@code inStock} is derived from the quantity;
+ * {@code createdAt} and {@code updatedAt} are omitted from the JSON when not set.
+ *
+ * <p>Serialized and deserialized by hand with the Jackson streaming API, like {@link User}.
+ */
+public record Product(
+        long id,
+        String name,
+        String category,
+        double price,
+        String description,
+        int quantity,
+        Instant createdAt,
+        Instant updatedAt)
+        implements JsonWritable {
+
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String CATEGORY = "category";
+    public static final String PRICE = "price";
+    public static final String DESCRIPTION = "description";
+    public static final String IN_STOCK = "inStock";
+    public static final String QUANTITY = "quantity";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+
+    /**
+     * A new product from a validated create request; the id is assigned on insert.
+     */
+    public static Product fromRequest(JsonObject body) {
+        return new Product(
+                0,
+                body.getString(NAME),
+                body.getString(CATEGORY),
+                body.getDouble(PRICE),
+                body.getString(DESCRIPTION, ""),
+                body.getInteger(QUANTITY, 0),
+                null,
+                null);
+    }
+
+    public boolean inStock() {
+        return quantity > 0;
+    }
+
+    public Product withId(long id, Instant createdAt) {
+        return new Product(id, name, category, price, description, quantity, createdAt, updatedAt);
+    }
+
+    public Product withQuantity(int quantity, Instant updatedAt) {
+        return new Product(id, name, category, price, description, quantity, createdAt, updatedAt);
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(ID, id);
+        generator.writeStringField(NAME, name);
+        generator.writeStringField(CATEGORY, category);
+        generator.writeNumberField(PRICE, price);
+        generator.writeStringField(DESCRIPTION, description);
+        generator.writeBooleanField(IN_STOCK, inStock());
+        generator.writeNumberField(QUANTITY, quantity);
+        if (createdAt != null) {
+            generator.writeStringField(CREATED_AT, createdAt.toString());
+        }
+        if (updatedAt != null) {
+            generator.writeStringField(UPDATED_AT, updatedAt.toString());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a product object; unknown fields, including the derived {@code inStock}, are skipped and
+     * missing ones keep their defaults.
+     */
+    public static Product readJson(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object for a product");
+        }
+        long id = 0;
+        String name = null;
+        String category = null;
+        double price = 0;
+        String description = "";
+        int quantity = 0;
+        Instant createdAt = null;
+        Instant updatedAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case ID -> id = parser.getValueAsLong();
+                case NAME -> name = parser.getValueAsString();
+                case CATEGORY -> category = parser.getValueAsString();
+                case PRICE -> price = parser.getValueAsDouble();
+                case DESCRIPTION -> description = parser.getValueAsString("");
+                case QUANTITY -> quantity = parser.getValueAsInt();
+                case CREATED_AT -> createdAt = Models.readInstant(parser, value);
+                case UPDATED_AT -> updatedAt = Models.readInstant(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Product(id, name, category, price, description, quantity, createdAt, updatedAt);
+    }
+}
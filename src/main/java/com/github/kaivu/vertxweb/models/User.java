@@ -0,0 +1,100 @@
+package com.github.kaivu.vertxweb.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kaivu.vertxweb.json.JsonWritable;
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * A user as returned by the user endpoints. {@code createdAt} and {@code updatedAt} are omitted from the
+ * JSON when not set.
+ *
+ * <p>Serialized and deserialized by hand with the Jackson streaming API: a user is written straight from
+ * its fields and read straight into them, without a {@code JsonObject} map or boxed values in between.
+ */
+public record User(long id, String name, String email, boolean active, Instant createdAt, Instant updatedAt)
+        implements JsonWritable {
+
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String EMAIL = "email";
+    public static final String ACTIVE = "active";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+
+    /**
+     * A new active user from a validated create request; the id is assigned on insert.
+     */
+    public static User fromRequest(JsonObject body) {
+        return new User(0, body.getString(NAME), body.getString(EMAIL), true, null, null);
+    }
+
+    public User withId(long id, Instant createdAt) {
+        return new User(id, name, email, active, createdAt, updatedAt);
+    }
+
+    /**
+     * Applies the fields present in a validated update request, stamping {@code updatedAt}. A field sent
+     * as {@code null} is left unchanged, like a missing one.
+     */
+    public User withChanges(JsonObject changes, Instant updatedAt) {
+        String changedName = changes.getString(NAME);
+        String changedEmail = changes.getString(EMAIL);
+        Boolean changedActive = changes.getBoolean(ACTIVE);
+        return new User(
+                id,
+                changedName != null ? changedName : name,
+                changedEmail != null ? changedEmail : email,
+                changedActive != null ? changedActive : active,
+                createdAt,
+                updatedAt);
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(ID, id);
+        generator.writeStringField(NAME, name);
+        generator.writeStringField(EMAIL, email);
+        generator.writeBooleanField(ACTIVE, active);
+        if (createdAt != null) {
+            generator.writeStringField(CREATED_AT, createdAt.toString());
+        }
+        if (updatedAt != null) {
+            generator.writeStringField(UPDATED_AT, updatedAt.toString());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a user object; unknown fields are skipped and missing ones keep their defaults.
+     */
+    public static User readJson(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object for a user");
+        }
+        long id = 0;
+        String name = null;
+        String email = null;
+        boolean active = true;
+        Instant createdAt = null;
+        Instant updatedAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case ID -> id = parser.getValueAsLong();
+                case NAME -> name = parser.getValueAsString();
+                case EMAIL -> email = parser.getValueAsString();
+                case ACTIVE -> active = parser.getValueAsBoolean(true);
+                case CREATED_AT -> createdAt = Models.readInstant(parser, value);
+                case UPDATED_AT -> updatedAt = Models.readInstant(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new User(id, name, email, active, createdAt, updatedAt);
+    }
+}
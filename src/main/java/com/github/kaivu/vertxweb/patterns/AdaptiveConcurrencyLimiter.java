@@ -0,0 +1,156 @@
+package com.github.kaivu.vertxweb.patterns;
+
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the requests of a route group running at once, with a limit that adapts to their round-trip
+ * time, in the style of TCP Vegas and gradient limiters.
+ *
+ * <p>Completed requests are sampled in windows of {@code windowMs}. When a window closes, its mean RTT
+ * (the short-term RTT) is compared with a slowly moving baseline (the long-term RTT). While the two
+ * agree, the limit grows by about its square root per window; once queueing pushes the short-term RTT
+ * beyond {@code tolerance} times the baseline, the limit shrinks in proportion, by at most half per
+ * window. The limit only grows while at least half of it is in use, so an idle group does not build up
+ * a limit it has never been tested at.
+ *
+ * <p>Lock-free: admission is a compare-and-set loop on the in-flight count, samples go to
+ * {@link LongAdder}s, and a window is closed by the one thread that wins a compare-and-set on its start
+ * time, which alone writes the limit. One instance per route group is shared by every
+ * {@code AppVerticle} instance (see {@link ConcurrencyLimiters}).
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    // Weight of each window in the long-term RTT, about the last 50 windows
+    private static final double BASELINE_WEIGHT = 0.02;
+    private static final double MIN_GRADIENT = 0.5;
+    // Past this ratio the baseline is stale (load has dropped); it then decays towards the short-term RTT
+    private static final double BASELINE_DRIFT_RATIO = 2.0;
+    private static final double BASELINE_DECAY = 0.95;
+
+    private final String name;
+    private final ConcurrencyLimiterConfig config;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+
+    // Written only by the thread closing a window
+    private volatile int limit;
+    private volatile double baselineRttNanos;
+    private volatile double shortRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimiterConfig config) {
+        this(name, config, System::nanoTime);
+    }
+
+    // Windows are timed with the given clock, so tests can close them deterministically
+    AdaptiveConcurrencyLimiter(String name, ConcurrencyLimiterConfig config, LongSupplier nanoClock) {
+        this.name = name;
+        this.config = config;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.windowMs());
+        this.nanoClock = nanoClock;
+        this.limit = config.initialLimit();
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Admits a request if fewer than {@link #limit()} are in flight. Every admitted request must be
+     * followed by exactly one {@link #release(long)}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request and records how long it took.
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        long now = nanoClock.getAsLong();
+        if (now - start >= windowNanos
+                && windowSamples.sum() >= config.minWindowSamples()
+                && windowStart.compareAndSet(start, now)) {
+            // Samples added while the adders are reset fall into either window, which is fine for a mean
+            long samples = windowSamples.sumThenReset();
+            long totalRtt = windowRttNanos.sumThenReset();
+            if (samples > 0) {
+                updateLimit((double) totalRtt / samples, peakInFlight.getAndSet(inFlight.get()));
+            }
+        }
+    }
+
+    private void updateLimit(double rtt, int peak) {
+        shortRttNanos = rtt;
+        double baseline = baselineRttNanos;
+        if (baseline == 0.0) {
+            baseline = rtt;
+        } else {
+            baseline += (rtt - baseline) * BASELINE_WEIGHT;
+            if (baseline / rtt > BASELINE_DRIFT_RATIO) {
+                baseline *= BASELINE_DECAY;
+            }
+        }
+        baselineRttNanos = baseline;
+
+        int current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, config.tolerance() * baseline / rtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        if (estimate > current && peak < current / 2) {
+            return;
+        }
+        double smoothed = current * (1.0 - config.smoothing()) + estimate * config.smoothing();
+        limit = (int) Math.max(config.minLimit(), Math.min(config.maxLimit(), Math.round(smoothed)));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public JsonObject toJson() {
+        return new JsonObject()
+                .put("name", name)
+                .put("limit", limit)
+                .put("inFlight", inFlight.get())
+                .put("rejected", rejected.sum())
+                .put("rttMs", shortRttNanos / 1_000_000.0)
+                .put("baselineRttMs", baselineRttNanos / 1_000_000.0);
+    }
+}
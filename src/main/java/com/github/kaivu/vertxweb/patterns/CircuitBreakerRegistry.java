@@ -1,6 +1,7 @@
 package com.github.kaivu.vertxweb.patterns;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.vertx.core.Vertx;
@@ -20,13 +21,16 @@ public class CircuitBreakerRegistry {
     private final ConcurrentMap<String, CircuitBreaker> circuitBreakers;
 
     @Inject
-    public CircuitBreakerRegistry(Vertx vertx, ApplicationConfig appConfig) {
+    public CircuitBreakerRegistry(Vertx vertx, ApplicationConfig appConfig, MetricsRegistry metricsRegistry) {
         this.vertx = vertx;
         this.appConfig = appConfig;
         this.circuitBreakers = new ConcurrentHashMap<>();
 
         // Initialize common circuit breakers
         initializeDefaultCircuitBreakers();
+
+        // Report this injector's breakers alongside those of the other verticle instances
+        metricsRegistry.registerCircuitBreakers(this);
     }
 
     private void initializeDefaultCircuitBreakers() {
@@ -0,0 +1,43 @@
+package com.github.kaivu.vertxweb.patterns;
+
+/**
+ * Settings of an {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @param initialLimit limit before any RTT has been measured
+ * @param minLimit the limit never shrinks below this
+ * @param maxLimit the limit never grows above this
+ * @param windowMs how often the limit is recomputed
+ * @param minWindowSamples completed requests a window needs before it is closed
+ * @param tolerance how far the short-term RTT may rise above the baseline before the limit shrinks
+ * @param smoothing weight of each new estimate against the current limit, in (0, 1]
+ */
+public record ConcurrencyLimiterConfig(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        long windowMs,
+        int minWindowSamples,
+        double tolerance,
+        double smoothing) {
+
+    public ConcurrencyLimiterConfig {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (windowMs <= 0 || minWindowSamples < 1 || tolerance < 1.0 || smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("Invalid concurrency limiter window or gradient settings");
+        }
+    }
+
+    public static ConcurrencyLimiterConfig defaultConfig() {
+        return new ConcurrencyLimiterConfig(
+                20, // initialLimit: 20 concurrent requests before the first measurement
+                4, // minLimit: always admit at least 4
+                1000, // maxLimit: never admit more than 1000
+                100, // windowMs: recompute the limit every 100 ms
+                10, // minWindowSamples: at least 10 completed requests per window
+                1.5, // tolerance: shrink once the RTT exceeds 1.5x the baseline
+                0.2 // smoothing: move 20% of the way to each new estimate
+                );
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.kaivu.vertxweb.patterns;
+
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide home of the {@link AdaptiveConcurrencyLimiter}s, one per route group.
+ *
+ * <p>A limit only means something if it counts every request of its group, whichever event loop serves
+ * it, so the limiters are stored once per Vertx instance in local shared data, like the
+ * {@link MetricsRegistry}, and not in the per-verticle injectors.
+ */
+public final class ConcurrencyLimiters implements Shareable {
+
+    private static final String SHARED_MAP_NAME = "app.concurrency-limiters";
+    private static final String REGISTRY_KEY = "registry";
+
+    private final MetricsRegistry metricsRegistry;
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private ConcurrencyLimiters(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Returns the limiters shared by every verticle deployed on the given Vertx instance.
+     */
+    public static ConcurrencyLimiters shared(Vertx vertx) {
+        LocalMap<String, ConcurrencyLimiters> registries = vertx.sharedData().getLocalMap(SHARED_MAP_NAME);
+        ConcurrencyLimiters registry = registries.get(REGISTRY_KEY);
+        if (registry != null) {
+            return registry;
+        }
+        ConcurrencyLimiters created = new ConcurrencyLimiters(MetricsRegistry.shared(vertx));
+        ConcurrencyLimiters existing = registries.putIfAbsent(REGISTRY_KEY, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Returns the limiter of a route group, creating it with {@code config} on first use. Later calls
+     * return the same limiter whatever config they pass.
+     */
+    public AdaptiveConcurrencyLimiter limiter(String group, ConcurrencyLimiterConfig config) {
+        return limiters.computeIfAbsent(group, key -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(key, config);
+            metricsRegistry.registerConcurrencyLimiter(limiter);
+            return limiter;
+        });
+    }
+}
@@ -1,11 +1,23 @@
 package com.github.kaivu.vertxweb.repositories;
 
+import com.github.kaivu.vertxweb.models.Product;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.vertx.core.json.JsonObject;
 import java.util.List;
 
 public interface ProductRepository {
-    Uni<JsonObject> findById(String productId);
+    Uni<Product> findById(String productId);
 
-    Uni<List<JsonObject>> findAll();
+    Uni<List<Product>> findAll();
+
+    /**
+     * Emits the products one by one as they are read, for callers that process or write them
+     * incrementally instead of holding the whole list.
+     */
+    Multi<Product> streamAll();
+
+    /**
+     * Inserts the products in one write and emits them with their generated ids.
+     */
+    Uni<List<Product>> saveAll(List<Product> products);
 }
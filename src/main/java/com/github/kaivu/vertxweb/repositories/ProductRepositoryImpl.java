@@ -1,26 +1,49 @@
 package com.github.kaivu.vertxweb.repositories;
 
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.models.Product;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Singleton;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.vertx.core.json.JsonObject;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Singleton
 public class ProductRepositoryImpl implements ProductRepository {
+
+    // Records are immutable, so the fixtures are shared rather than rebuilt per call
+    private static final Product WIDGET = new Product(1, "Widget", "Tools", 9.99, "", 100, null, null);
+
+    private final AtomicLong nextId = new AtomicLong(WIDGET.id() + 1);
+
     @Override
-    public Uni<JsonObject> findById(String productId) {
+    public Uni<Product> findById(String productId) {
         if ("1".equals(productId)) {
-            return Uni.createFrom().item(new JsonObject().put("productId", "1").put("name", "Widget"));
+            return Uni.createFrom().item(WIDGET);
         }
         return Uni.createFrom().failure(new ServiceException("Product not found", AppConstants.Status.NOT_FOUND));
     }
 
     @Override
-    public Uni<List<JsonObject>> findAll() {
-        List<JsonObject> products =
-                List.of(new JsonObject().put("productId", "1").put("name", "Widget"));
-        return Uni.createFrom().item(products);
+    public Uni<List<Product>> findAll() {
+        return streamAll().collect().asList();
+    }
+
+    @Override
+    public Multi<Product> streamAll() {
+        return Multi.createFrom().items(WIDGET);
+    }
+
+    @Override
+    public Uni<List<Product>> saveAll(List<Product> products) {
+        return Uni.createFrom().item(() -> {
+            // Simulate a batch insert with generated IDs
+            Instant now = Instant.now();
+            return products.stream()
+                    .map(product -> product.withId(nextId.getAndIncrement(), now))
+                    .toList();
+        });
     }
 }
@@ -1,18 +1,20 @@
 package com.github.kaivu.vertxweb.services;
 
+import static com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper.logCurrentEvent;
+
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
-import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.models.Product;
 import com.github.kaivu.vertxweb.repositories.ProductRepository;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.RoutingContext;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,85 +39,49 @@ public class ProductService {
         this.appConfig = appConfig;
     }
 
-    public Uni<JsonObject> getProductById(String productId) {
-        return getProductByIdWithContext(productId, null);
-    }
-
-    public Uni<JsonObject> getProductByIdWithContext(String productId, RoutingContext ctx) {
+    public Uni<Product> getProductById(String productId) {
         if (productId == null || productId.isBlank()) {
             return Uni.createFrom()
                     .failure(new ServiceException("Product ID must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "getProductById", "productId", productId);
-        }
+        logCurrentEvent("service_operation_start", "operation", "getProductById", "productId", productId);
 
-        Uni<JsonObject> result = productRepository.findById(productId);
+        Uni<Product> result = productRepository.findById(productId);
 
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "getProductById", "productId", productId);
-        }
+        logCurrentEvent("service_operation_completed", "operation", "getProductById", "productId", productId);
 
         return result;
     }
 
-    public Uni<JsonObject> getAllProducts() {
-        return getAllProductsWithContext(null);
-    }
-
-    public Uni<JsonObject> getAllProductsWithContext(RoutingContext ctx) {
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "getAllProducts");
-        }
+    /**
+     * Emits the products as the repository reads them, for responses written while they are produced.
+     */
+    public Multi<Product> streamAllProducts() {
+        logCurrentEvent("service_operation_start", "operation", "streamAllProducts");
 
-        log.info("Fetching all products...");
+        log.info("Streaming all products...");
 
-        Uni<JsonObject> result = performGetAllProducts();
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "getAllProducts");
-        }
-
-        return result;
-    }
-
-    private Uni<JsonObject> performGetAllProducts() {
         return productRepository
-                .findAll()
-                .onItem()
-                .transform(productList -> {
-                    JsonArray products = new JsonArray();
-                    productList.forEach(products::add);
-                    return new JsonObject()
-                            .put("products", products)
-                            .put("total", products.size())
-                            .put("timestamp", System.currentTimeMillis());
-                })
+                .streamAll()
                 .onFailure()
                 .transform(throwable -> {
-                    log.error("Error fetching products", throwable);
+                    log.error("Error streaming products", throwable);
                     return new ServiceException("Failed to fetch products", AppConstants.Status.INTERNAL_SERVER_ERROR);
-                });
-    }
-
-    public Uni<JsonObject> createProduct(JsonObject product) {
-        return createProductWithContext(product, null);
+                })
+                .onCompletion()
+                .invoke(() -> logCurrentEvent("service_operation_completed", "operation", "streamAllProducts"));
     }
 
-    public Uni<JsonObject> createProductWithContext(JsonObject product, RoutingContext ctx) {
-        if (product == null || product.isEmpty()) {
+    public Uni<Product> createProduct(Product product) {
+        if (product == null) {
             return Uni.createFrom()
                     .failure(new ServiceException("Product data must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        String name = product.getString("name");
-        String category = product.getString("category");
-        Double price = product.getDouble("price");
+        String name = product.name();
+        String category = product.category();
+        double price = product.price();
 
         if (name == null || name.isBlank()) {
             return Uni.createFrom()
@@ -125,30 +91,24 @@ public class ProductService {
             return Uni.createFrom()
                     .failure(new ServiceException("Product category is required", AppConstants.Status.BAD_REQUEST));
         }
-        if (price == null || price <= 0) {
+        if (price <= 0) {
             return Uni.createFrom()
                     .failure(new ServiceException(
                             "Product price must be greater than 0", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "createProduct", "productName", name);
-        }
+        logCurrentEvent("service_operation_start", "operation", "createProduct", "productName", name);
 
         log.info("Creating new product: {}", name);
 
-        Uni<JsonObject> result = performCreateProduct(product);
+        Uni<Product> result = performCreateProduct(product);
 
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "createProduct", "productName", name);
-        }
+        logCurrentEvent("service_operation_completed", "operation", "createProduct", "productName", name);
 
         return result;
     }
 
-    private Uni<JsonObject> performCreateProduct(JsonObject product) {
+    private Uni<Product> performCreateProduct(Product product) {
         return Uni.createFrom()
                 .item(product)
                 .onItem()
@@ -163,15 +123,7 @@ public class ProductService {
                             .nextInt(
                                     appConfig.service().minIdRange(),
                                     appConfig.service().maxIdRange());
-                    return new JsonObject()
-                            .put("id", newId)
-                            .put("name", productData.getString("name"))
-                            .put("category", productData.getString("category"))
-                            .put("price", productData.getDouble("price"))
-                            .put("description", productData.getString("description", ""))
-                            .put("inStock", true)
-                            .put("quantity", productData.getInteger("quantity", 0))
-                            .put("createdAt", java.time.Instant.now().toString());
+                    return productData.withId(newId, Instant.now());
                 })
                 .onFailure()
                 .transform(throwable -> {
@@ -180,11 +132,30 @@ public class ProductService {
                 });
     }
 
-    public Uni<JsonObject> updateProductStock(String productId, int newQuantity) {
-        return updateProductStockWithContext(productId, newQuantity, null);
+    /**
+     * Writes one micro-batch of an import.
+     */
+    public Uni<List<Product>> importProducts(List<Product> products) {
+        logCurrentEvent("service_operation_start", "operation", "importProducts", "count", products.size());
+
+        Uni<List<Product>> result = productRepository
+                .saveAll(products)
+                .onItem()
+                .delayIt()
+                .by(Duration.ofMillis(appConfig.service().baseDelayMs()))
+                .onFailure()
+                .transform(throwable -> {
+                    log.error("Error importing {} products", products.size(), throwable);
+                    return new ServiceException(
+                            "Failed to import products", AppConstants.Status.INTERNAL_SERVER_ERROR);
+                });
+
+        logCurrentEvent("service_operation_completed", "operation", "importProducts", "count", products.size());
+
+        return result;
     }
 
-    public Uni<JsonObject> updateProductStockWithContext(String productId, int newQuantity, RoutingContext ctx) {
+    public Uni<Product> updateProductStock(String productId, int newQuantity) {
         if (productId == null || productId.isBlank()) {
             return Uni.createFrom()
                     .failure(new ServiceException("Product ID must not be empty", AppConstants.Status.BAD_REQUEST));
@@ -194,35 +165,25 @@ public class ProductService {
                     .failure(new ServiceException("Quantity cannot be negative", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent(
-                    "service_operation_start",
-                    "operation",
-                    "updateProductStock",
-                    "productId",
-                    productId,
-                    "newQuantity",
-                    newQuantity);
-        }
+        logCurrentEvent(
+                "service_operation_start",
+                "operation",
+                "updateProductStock",
+                "productId",
+                productId,
+                "newQuantity",
+                newQuantity);
 
         log.info("Updating stock for product: {} to quantity: {}", productId, newQuantity);
 
-        return getProductByIdWithContext(productId, ctx)
+        return getProductById(productId)
                 .onItem()
                 .delayIt()
                 .by(Duration.ofMillis(appConfig.service().baseDelayMs()
                         + ThreadLocalRandom.current()
                                 .nextInt(appConfig.service().baseDelayMs())))
                 .onItem()
-                .transform(existingProduct -> {
-                    JsonObject updatedProduct = existingProduct.copy();
-                    updatedProduct.put("quantity", newQuantity);
-                    updatedProduct.put("inStock", newQuantity > 0);
-                    updatedProduct.put("updatedAt", java.time.Instant.now().toString());
-                    return updatedProduct;
-                })
+                .transform(existingProduct -> existingProduct.withQuantity(newQuantity, Instant.now()))
                 .onFailure()
                 .transform(throwable -> {
                     if (throwable instanceof ServiceException) {
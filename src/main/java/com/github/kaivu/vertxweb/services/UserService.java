@@ -1,18 +1,22 @@
 package com.github.kaivu.vertxweb.services;
 
+import static com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper.logCurrentEvent;
+
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
-import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.models.User;
 import com.github.kaivu.vertxweb.patterns.CircuitBreakerRegistry;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.RoutingContext;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +30,14 @@ import org.slf4j.LoggerFactory;
 @Singleton
 public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
+    // Simulated user table; records are immutable, so they are shared rather than rebuilt per query
+    private static final List<User> USERS = List.of(
+            new User(1, "John Doe", "john@example.com", true, Instant.parse("2024-01-01T10:00:00Z"), null),
+            new User(2, "Jane Smith", "jane@example.com", true, Instant.parse("2024-01-15T14:30:00Z"), null),
+            new User(3, "Bob Johnson", "bob@example.com", false, Instant.parse("2024-02-01T09:15:00Z"), null));
+    private static final Map<String, User> USERS_BY_ID =
+            Map.of("1", USERS.get(0), "2", USERS.get(1), "3", USERS.get(2));
     private final Vertx vertx;
     private final ApplicationConfig appConfig;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
@@ -37,30 +49,24 @@ public class UserService {
         this.circuitBreakerRegistry = circuitBreakerRegistry;
     }
 
-    public Uni<JsonObject> getAllUsers() {
-        return getAllUsersWithContext(null);
-    }
-
-    public Uni<JsonObject> getAllUsersWithContext(RoutingContext ctx) {
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "getAllUsers");
-        }
-
-        log.info("Fetching all users...");
+    /**
+     * Emits the users one by one once the query returns, for responses written while they are produced.
+     */
+    public Multi<User> streamAllUsers() {
+        logCurrentEvent("service_operation_start", "operation", "streamAllUsers");
 
-        Uni<JsonObject> result =
-                circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> performGetAllUsers());
+        log.info("Streaming all users...");
 
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "getAllUsers");
-        }
-
-        return result;
+        return circuitBreakerRegistry
+                .getDatabaseCircuitBreaker()
+                .execute(this::performFindAllUsers)
+                .onItem()
+                .transformToMulti(users -> Multi.createFrom().iterable(users))
+                .onCompletion()
+                .invoke(() -> logCurrentEvent("service_operation_completed", "operation", "streamAllUsers"));
     }
 
-    private Uni<JsonObject> performGetAllUsers() {
+    private Uni<List<User>> performFindAllUsers() {
         return Uni.createFrom()
                 .item(0)
                 .onItem()
@@ -69,26 +75,7 @@ public class UserService {
                         + ThreadLocalRandom.current()
                                 .nextInt(appConfig.service().maxDelayVarianceMs())))
                 .onItem()
-                .transform(ignored -> {
-                    JsonArray users = new JsonArray()
-                            .add(new JsonObject()
-                                    .put("id", 1)
-                                    .put("name", "John Doe")
-                                    .put("email", "john@example.com"))
-                            .add(new JsonObject()
-                                    .put("id", 2)
-                                    .put("name", "Jane Smith")
-                                    .put("email", "jane@example.com"))
-                            .add(new JsonObject()
-                                    .put("id", 3)
-                                    .put("name", "Bob Johnson")
-                                    .put("email", "bob@example.com"));
-
-                    return new JsonObject()
-                            .put("users", users)
-                            .put("total", users.size())
-                            .put("timestamp", System.currentTimeMillis());
-                })
+                .transform(ignored -> USERS)
                 .onFailure()
                 .transform(throwable -> {
                     log.error("Error fetching users", throwable);
@@ -96,35 +83,25 @@ public class UserService {
                 });
     }
 
-    public Uni<JsonObject> getUserById(String userId) {
-        return getUserByIdWithContext(userId, null);
-    }
-
-    public Uni<JsonObject> getUserByIdWithContext(String userId, RoutingContext ctx) {
+    public Uni<User> getUserById(String userId) {
         if (userId == null || userId.isBlank()) {
             return Uni.createFrom()
                     .failure(new ServiceException("User ID must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "getUserById", "userId", userId);
-        }
+        logCurrentEvent("service_operation_start", "operation", "getUserById", "userId", userId);
 
         log.info("Fetching user by ID: {}", userId);
 
-        Uni<JsonObject> result =
+        Uni<User> result =
                 circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> performGetUserById(userId));
 
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "getUserById", "userId", userId);
-        }
+        logCurrentEvent("service_operation_completed", "operation", "getUserById", "userId", userId);
 
         return result;
     }
 
-    private Uni<JsonObject> performGetUserById(String userId) {
+    private Uni<User> performGetUserById(String userId) {
         return Uni.createFrom()
                 .item(userId)
                 .onItem()
@@ -135,27 +112,11 @@ public class UserService {
                 .onItem()
                 .transform(id -> {
                     // Simulate database lookup
-                    return switch (id) {
-                        case "1" -> new JsonObject()
-                                .put("id", 1)
-                                .put("name", "John Doe")
-                                .put("email", "john@example.com")
-                                .put("active", true)
-                                .put("createdAt", "2024-01-01T10:00:00Z");
-                        case "2" -> new JsonObject()
-                                .put("id", 2)
-                                .put("name", "Jane Smith")
-                                .put("email", "jane@example.com")
-                                .put("active", true)
-                                .put("createdAt", "2024-01-15T14:30:00Z");
-                        case "3" -> new JsonObject()
-                                .put("id", 3)
-                                .put("name", "Bob Johnson")
-                                .put("email", "bob@example.com")
-                                .put("active", false)
-                                .put("createdAt", "2024-02-01T09:15:00Z");
-                        default -> throw new ServiceException("User not found", AppConstants.Status.NOT_FOUND);
-                    };
+                    User user = USERS_BY_ID.get(id);
+                    if (user == null) {
+                        throw new ServiceException("User not found", AppConstants.Status.NOT_FOUND);
+                    }
+                    return user;
                 })
                 .onFailure(ServiceException.class)
                 .recoverWithUni(failure -> Uni.createFrom().failure(failure))
@@ -166,18 +127,14 @@ public class UserService {
                 });
     }
 
-    public Uni<JsonObject> createUser(JsonObject user) {
-        return createUserWithContext(user, null);
-    }
-
-    public Uni<JsonObject> createUserWithContext(JsonObject user, RoutingContext ctx) {
-        if (user == null || user.isEmpty()) {
+    public Uni<User> createUser(User user) {
+        if (user == null) {
             return Uni.createFrom()
                     .failure(new ServiceException("User data must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        String name = user.getString("name");
-        String email = user.getString("email");
+        String name = user.name();
+        String email = user.email();
 
         if (name == null || name.isBlank()) {
             return Uni.createFrom()
@@ -188,25 +145,19 @@ public class UserService {
                     .failure(new ServiceException("User email is required", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "createUser", "userName", name);
-        }
+        logCurrentEvent("service_operation_start", "operation", "createUser", "userName", name);
 
         log.info("Creating new user: {}", name);
 
-        Uni<JsonObject> result =
+        Uni<User> result =
                 circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> performCreateUser(user));
 
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_completed", "operation", "createUser", "userName", name);
-        }
+        logCurrentEvent("service_operation_completed", "operation", "createUser", "userName", name);
 
         return result;
     }
 
-    private Uni<JsonObject> performCreateUser(JsonObject user) {
+    private Uni<User> performCreateUser(User user) {
         return Uni.createFrom()
                 .item(user)
                 .onItem()
@@ -221,12 +172,7 @@ public class UserService {
                             .nextInt(
                                     appConfig.service().minIdRange(),
                                     appConfig.service().maxIdRange());
-                    return new JsonObject()
-                            .put("id", newId)
-                            .put("name", userData.getString("name"))
-                            .put("email", userData.getString("email"))
-                            .put("active", true)
-                            .put("createdAt", java.time.Instant.now().toString());
+                    return userData.withId(newId, Instant.now());
                 })
                 .onFailure()
                 .transform(throwable -> {
@@ -235,11 +181,7 @@ public class UserService {
                 });
     }
 
-    public Uni<JsonObject> updateUser(String userId, JsonObject user) {
-        return updateUserWithContext(userId, user, null);
-    }
-
-    public Uni<JsonObject> updateUserWithContext(String userId, JsonObject user, RoutingContext ctx) {
+    public Uni<User> updateUser(String userId, JsonObject user) {
         if (userId == null || userId.isBlank()) {
             return Uni.createFrom()
                     .failure(new ServiceException("User ID must not be empty", AppConstants.Status.BAD_REQUEST));
@@ -249,38 +191,18 @@ public class UserService {
                     .failure(new ServiceException("User data must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "updateUser", "userId", userId);
-        }
+        logCurrentEvent("service_operation_start", "operation", "updateUser", "userId", userId);
 
         log.info("Updating user: {}", userId);
 
-        return circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> getUserByIdWithContext(userId, ctx)
+        return circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> getUserById(userId)
                 .onItem()
                 .delayIt()
                 .by(Duration.ofMillis(appConfig.service().updateBaseDelayMs()
                         + ThreadLocalRandom.current()
                                 .nextInt(appConfig.service().updateMaxVarianceMs())))
                 .onItem()
-                .transform(existingUser -> {
-                    // Merge updates with existing data
-                    JsonObject updatedUser = existingUser.copy();
-
-                    if (user.containsKey("name")) {
-                        updatedUser.put("name", user.getString("name"));
-                    }
-                    if (user.containsKey("email")) {
-                        updatedUser.put("email", user.getString("email"));
-                    }
-                    if (user.containsKey("active")) {
-                        updatedUser.put("active", user.getBoolean("active"));
-                    }
-
-                    updatedUser.put("updatedAt", java.time.Instant.now().toString());
-                    return updatedUser;
-                })
+                .transform(existingUser -> existingUser.withChanges(user, Instant.now()))
                 .onFailure()
                 .transform(throwable -> {
                     if (throwable instanceof ServiceException) {
@@ -292,24 +214,16 @@ public class UserService {
     }
 
     public Uni<JsonObject> deleteUser(String userId) {
-        return deleteUserWithContext(userId, null);
-    }
-
-    public Uni<JsonObject> deleteUserWithContext(String userId, RoutingContext ctx) {
         if (userId == null || userId.isBlank()) {
             return Uni.createFrom()
                     .failure(new ServiceException("User ID must not be empty", AppConstants.Status.BAD_REQUEST));
         }
 
-        ContextAwareVertxWrapper wrapper = ctx != null ? (ContextAwareVertxWrapper) ctx.get("contextWrapper") : null;
-
-        if (wrapper != null) {
-            wrapper.logEvent("service_operation_start", "operation", "deleteUser", "userId", userId);
-        }
+        logCurrentEvent("service_operation_start", "operation", "deleteUser", "userId", userId);
 
         log.info("Deleting user: {}", userId);
 
-        return circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> getUserByIdWithContext(userId, ctx)
+        return circuitBreakerRegistry.getDatabaseCircuitBreaker().execute(() -> getUserById(userId)
                 .onItem()
                 .delayIt()
                 .by(Duration.ofMillis(appConfig.service().deleteBaseDelayMs()
@@ -321,11 +235,9 @@ public class UserService {
                     JsonObject result = new JsonObject()
                             .put("id", userId)
                             .put("message", "User deleted successfully")
-                            .put("deletedAt", java.time.Instant.now().toString());
+                            .put("deletedAt", Instant.now().toString());
 
-                    if (wrapper != null) {
-                        wrapper.logEvent("service_operation_completed", "operation", "deleteUser", "userId", userId);
-                    }
+                    logCurrentEvent("service_operation_completed", "operation", "deleteUser", "userId", userId);
 
                     return result;
                 })
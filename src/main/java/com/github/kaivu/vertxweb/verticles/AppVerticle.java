@@ -2,11 +2,14 @@ package com.github.kaivu.vertxweb.verticles;
 
 import com.github.kaivu.vertxweb.config.AppModule;
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.config.HttpServerOptionsFactory;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
 import com.github.kaivu.vertxweb.web.routes.RouterConfig;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
+import io.vertx.core.http.HttpServerOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,20 +24,32 @@ public class AppVerticle extends AbstractVerticle {
         // Get configuration and router from injector
         ApplicationConfig appConfig = injector.getInstance(ApplicationConfig.class);
         RouterConfig routerConfig = injector.getInstance(RouterConfig.class);
+        HttpServerOptions serverOptions = injector.getInstance(HttpServerOptionsFactory.class).create();
+
+        // Tag this instance's event loop so lag reports name the saturated instance
+        String instanceName = injector.getInstance(MetricsRegistry.class)
+                .eventLoops()
+                .assignCurrentLoop(AppVerticle.class.getSimpleName());
 
         // Use configured port, with fallback to Vert.x config, then default
         int configuredPort = appConfig.server().port();
         int port = config().getInteger("http.port", configuredPort);
         String host = appConfig.server().host();
 
-        log.info("Starting HTTP server on {}:{}", host, port);
+        log.info(
+                "Starting HTTP server on {}:{} ({} on {})",
+                host,
+                port,
+                instanceName,
+                Thread.currentThread().getName());
 
-        vertx.createHttpServer().requestHandler(routerConfig.getRouter()).listen(port, host, http -> {
+        vertx.createHttpServer(serverOptions).requestHandler(routerConfig.getRouter()).listen(port, host, http -> {
             if (http.succeeded()) {
                 startPromise.complete();
                 log.info("HTTP server started successfully on {}:{}", host, port);
                 log.info(
-                        "API available at: http://{}:{}{}",
+                        "API available at: {}://{}:{}{}",
+                        serverOptions.isSsl() ? "https" : "http",
                         host,
                         port,
                         appConfig.server().apiPrefix());
@@ -0,0 +1,194 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.github.kaivu.vertxweb.json.DataFormat;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One route's response body, kept pre-serialized and precompressed by {@link ResponseCache}.
+ *
+ * <p>The body is produced by the route's generator once per format, and kept as identity, gzip and
+ * deflate bytes along with their pre-encoded Content-Length values. A hit only picks the variant the
+ * request's Accept-Encoding allows and writes it. When server compression is on, the Content-Encoding
+ * is always set, {@code identity} included, so the compressor passes the bytes through instead of
+ * compressing them twice; otherwise only the gzip and deflate variants carry one.
+ *
+ * <p>{@link #refresh()} rebuilds the formats that were requested since the previous refresh and drops
+ * the others, so a route nobody polls stops costing anything. A format with no cached bytes, on first
+ * use or after {@link #invalidate()}, is built by the hit that needs it.
+ *
+ * <p>Instances belong to the {@code ResponseCache} of one {@code AppVerticle} and are only used on its
+ * event loop.
+ */
+public final class CachedResponse {
+
+    private static final CharSequence GZIP = HttpHeaders.createOptimized("gzip");
+    private static final CharSequence DEFLATE = HttpHeaders.createOptimized("deflate");
+
+    private final String name;
+    private final long refreshIntervalMs;
+    private final Supplier<?> generator;
+    private final boolean compress;
+    private final int level;
+    private final int minSizeBytes;
+    private final Entry[] entries = new Entry[DataFormat.values().length];
+    private final boolean[] requested = new boolean[DataFormat.values().length];
+
+    CachedResponse(
+            String name, long refreshIntervalMs, Supplier<?> generator, ApplicationConfig.ServerConfig config) {
+        this.name = name;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.generator = generator;
+        this.compress = config.compressionEnabled();
+        this.level = config.compressionLevel();
+        this.minSizeBytes = config.compressionMinSizeBytes();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long refreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    /**
+     * Writes the cached body in the given format.
+     */
+    public void send(RoutingContext ctx, int statusCode, DataFormat format) {
+        int index = format.ordinal();
+        requested[index] = true;
+        Entry entry = entries[index];
+        if (entry == null) {
+            entry = build(format);
+            entries[index] = entry;
+        }
+
+        HttpServerResponse response = ctx.response();
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        Variant variant = entry.identity();
+        // "identity" only tells the server compressor to leave the bytes alone; without one it is not sent
+        CharSequence encoding = compress ? HttpHeaders.IDENTITY : null;
+        if (entry.gzip() != null && accepts(acceptEncoding, "gzip")) {
+            variant = entry.gzip();
+            encoding = GZIP;
+        } else if (entry.deflate() != null && accepts(acceptEncoding, "deflate")) {
+            variant = entry.deflate();
+            encoding = DEFLATE;
+        }
+        if (encoding != null) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setStatusCode(statusCode)
+                .putHeader(HttpHeaders.CONTENT_TYPE, format.contentType())
+                .putHeader(HttpHeaders.CONTENT_LENGTH, variant.contentLength())
+                .end(variant.bytes());
+    }
+
+    /**
+     * Rebuilds the formats requested since the previous refresh from a fresh generator call, and drops
+     * the formats nobody asked for.
+     */
+    public void refresh() {
+        for (DataFormat format : DataFormat.values()) {
+            int index = format.ordinal();
+            entries[index] = requested[index] ? build(format) : null;
+            requested[index] = false;
+        }
+    }
+
+    /**
+     * Drops the cached bytes; the next hit rebuilds them.
+     */
+    public void invalidate() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+        }
+    }
+
+    private Entry build(DataFormat format) {
+        Buffer identity = JsonBuffers.encode(generator.get(), format);
+        if (!compress || identity.length() < minSizeBytes) {
+            return new Entry(Variant.of(identity), null, null);
+        }
+        byte[] bytes = identity.getBytes();
+        return new Entry(Variant.of(identity), Variant.of(gzip(bytes)), Variant.of(deflate(bytes)));
+    }
+
+    private Buffer gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Buffer.buffer(out.toByteArray());
+    }
+
+    private Buffer deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        Deflater deflater = new Deflater(level);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return Buffer.buffer(out.toByteArray());
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows the coding, i.e. lists it without {@code q=0}.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            int params = part.indexOf(';');
+            String codingName = (params >= 0 ? part.substring(0, params) : part).trim();
+            if (codingName.equalsIgnoreCase(coding)) {
+                return params < 0 || quality(part.substring(params + 1)) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String params) {
+        String value = params.trim();
+        if (!value.startsWith("q=")) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(value.substring(2).trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private record Entry(Variant identity, Variant gzip, Variant deflate) {}
+
+    private record Variant(Buffer bytes, CharSequence contentLength) {
+
+        static Variant of(Buffer bytes) {
+            return new Variant(bytes, HttpHeaders.createOptimized(Integer.toString(bytes.length())));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.github.kaivu.vertxweb.json.DataFormat;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Writes JSON responses from a single {@link Buffer}: the body is encoded straight to UTF-8 bytes by
+ * {@link JsonBuffers}, the Content-Type is a precomputed header value and Content-Length is set from the
+ * encoded size, so no intermediate {@code String} is created per response.
+ *
+ * <p>This is the one JSON response path shared by routers, {@link RouterHelper} and the middlewares.
+ * The variants taking a {@link DataFormat} write the same body as CBOR or Smile, for responses whose
+ * format was negotiated by {@link RouterHelper#responseFormat}.
+ */
+public final class JsonResponseWriter {
+
+    /**
+     * {@code application/json; charset=utf-8}, pre-encoded once for Netty's header encoder.
+     */
+    public static final CharSequence JSON_CONTENT_TYPE = DataFormat.JSON.contentType();
+
+    private JsonResponseWriter() {
+        // Utility class
+    }
+
+    /**
+     * Sends the body, a {@code JsonObject}, {@code JsonArray}, {@code JsonWritable} or any other value
+     * {@link JsonBuffers} can encode, with the given status code.
+     */
+    public static Future<Void> send(RoutingContext ctx, int statusCode, Object body) {
+        return send(ctx.response(), statusCode, body);
+    }
+
+    public static Future<Void> send(HttpServerResponse response, int statusCode, Object body) {
+        return send(response, statusCode, JsonBuffers.encode(body));
+    }
+
+    public static Future<Void> send(HttpServerResponse response, int statusCode, Object body, DataFormat format) {
+        return send(response, statusCode, JsonBuffers.encode(body, format), format);
+    }
+
+    /**
+     * Sends an already encoded JSON body.
+     */
+    public static Future<Void> send(HttpServerResponse response, int statusCode, Buffer encodedBody) {
+        return send(response, statusCode, encodedBody, DataFormat.JSON);
+    }
+
+    /**
+     * Sends a body already encoded in the given format.
+     */
+    public static Future<Void> send(
+            HttpServerResponse response, int statusCode, Buffer encodedBody, DataFormat format) {
+        return response.setStatusCode(statusCode)
+                .putHeader(HttpHeaders.CONTENT_TYPE, format.contentType())
+                .putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(encodedBody.length()))
+                .end(encodedBody);
+    }
+}
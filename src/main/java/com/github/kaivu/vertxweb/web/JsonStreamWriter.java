@@ -0,0 +1,201 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.kaivu.vertxweb.json.ChunkedJsonGenerator;
+import com.github.kaivu.vertxweb.json.DataFormat;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClosedException;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Streams a collection as a chunked JSON response while the items are produced, instead of collecting
+ * them into a {@code JsonArray} and encoding the whole document at once.
+ *
+ * <p>The document keeps the envelope of the collection endpoints,
+ * {@code {"<field>":[...],"total":n,"timestamp":t}}: the array is opened with the first item, each item
+ * is written as its own chunk as it arrives, and {@code total} is written after the last one. The
+ * document is produced by one {@link ChunkedJsonGenerator} in the format negotiated from the Accept
+ * header, so CBOR and Smile clients get the same incremental response.
+ *
+ * <p>Items are requested one at a time; when the response write queue is full the next item is only
+ * requested from the drain handler, so a slow client holds back the source rather than filling the heap.
+ * A closed connection cancels the source.
+ *
+ * <p>Headers are sent with the first item, so a source failing before it emits still goes through the
+ * error handler as a normal error response. A failure after that resets the connection: the client sees
+ * a truncated document rather than a well-formed but incomplete one.
+ */
+public final class JsonStreamWriter {
+
+    private JsonStreamWriter() {
+        // Utility class
+    }
+
+    /**
+     * Streams the items under {@code field} with the given status code.
+     *
+     * @return a Uni completing once the response has ended, or failing with the source failure
+     */
+    public static Uni<Void> stream(RoutingContext ctx, int statusCode, String field, Multi<?> items) {
+        HttpServerResponse response = ctx.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        DataFormat format = RouterHelper.responseFormat(ctx);
+        Context context = ctx.vertx().getOrCreateContext();
+        return Uni.createFrom().emitter(emitter -> items.emitOn(onContext(context))
+                .subscribe()
+                .withSubscriber(new ItemWriter(response, statusCode, format, field, emitter)));
+    }
+
+    // Items from a synchronous source are already on the request's context and are written inline
+    private static Executor onContext(Context context) {
+        return command -> {
+            if (Vertx.currentContext() == context) {
+                command.run();
+            } else {
+                context.runOnContext(ignored -> command.run());
+            }
+        };
+    }
+
+    private static final class ItemWriter implements Flow.Subscriber<Object> {
+
+        private final HttpServerResponse response;
+        private final int statusCode;
+        private final DataFormat format;
+        private final String field;
+        private final UniEmitter<? super Void> emitter;
+        private Flow.Subscription subscription;
+        private ChunkedJsonGenerator document;
+        private long count;
+        private boolean terminated;
+
+        ItemWriter(
+                HttpServerResponse response,
+                int statusCode,
+                DataFormat format,
+                String field,
+                UniEmitter<? super Void> emitter) {
+            this.response = response;
+            this.statusCode = statusCode;
+            this.format = format;
+            this.field = field;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            emitter.onTermination(this::cancel);
+            response.closeHandler(ignored -> {
+                if (!terminated) {
+                    cancel();
+                    emitter.fail(new HttpClosedException("Connection closed while streaming the response"));
+                }
+            });
+            response.drainHandler(ignored -> requestNext());
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (terminated) {
+                return;
+            }
+            Buffer chunk;
+            try {
+                if (count == 0) {
+                    openDocument();
+                }
+                document.writeValue(item);
+                chunk = document.chunk();
+            } catch (IOException | RuntimeException e) {
+                subscription.cancel();
+                fail(e);
+                return;
+            }
+            if (count == 0) {
+                response.setStatusCode(statusCode)
+                        .setChunked(true)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, format.contentType());
+            }
+            count++;
+            response.write(chunk);
+            if (!response.writeQueueFull()) {
+                requestNext();
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (!terminated) {
+                fail(failure);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            Buffer tail;
+            try {
+                if (count == 0) {
+                    openDocument();
+                }
+                JsonGenerator generator = document.generator();
+                generator.writeEndArray();
+                generator.writeNumberField("total", count);
+                generator.writeNumberField("timestamp", System.currentTimeMillis());
+                generator.writeEndObject();
+                tail = document.finish();
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (count == 0) {
+                JsonResponseWriter.send(response, statusCode, tail, format).onComplete(ar -> emitter.complete(null));
+            } else {
+                response.end(tail).onComplete(ar -> emitter.complete(null));
+            }
+        }
+
+        private void openDocument() throws IOException {
+            document = new ChunkedJsonGenerator(format);
+            JsonGenerator generator = document.generator();
+            generator.writeStartObject();
+            generator.writeFieldName(field);
+            generator.writeStartArray();
+        }
+
+        private void fail(Throwable failure) {
+            terminated = true;
+            if (response.headWritten()) {
+                response.reset();
+            }
+            emitter.fail(failure);
+        }
+
+        private void requestNext() {
+            if (!terminated) {
+                subscription.request(1);
+            }
+        }
+
+        private void cancel() {
+            if (!terminated) {
+                terminated = true;
+                subscription.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
+import com.github.kaivu.vertxweb.web.validation.ValidationResult;
+import com.github.kaivu.vertxweb.web.validation.Validator;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Imports newline-delimited JSON records from a request body as it arrives.
+ *
+ * <p>Each line is decoded, validated and converted on its own; a bad line is reported in the summary
+ * and the import carries on. Valid records are written in micro-batches: while a batch is being
+ * written the body stream is paused, so the client is slowed down to the writer's pace and at most one
+ * batch plus one partial line is held in memory, whatever the size of the body.
+ *
+ * <p>The body is bounded as it is read, whether or not it announced a Content-Length: once more than
+ * the configured number of bytes has arrived, the import fails with 413.
+ *
+ * <p>The summary counts the lines read, imported and failed, and lists the failed lines with their
+ * errors, up to a configured number.
+ *
+ * @param <T> the record type
+ */
+public final class NdjsonImport<T> {
+
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final ReadStream<Buffer> body;
+    private final Context context;
+    private final Validator validator;
+    private final Function<JsonObject, T> converter;
+    private final Function<List<T>, Uni<?>> writer;
+    private final int batchSize;
+    private final int maxLineBytes;
+    private final int maxErrors;
+    private final long maxBodyBytes;
+
+    private final List<T> batch = new ArrayList<>();
+    private final List<Long> batchLines = new ArrayList<>();
+    private final JsonArray errors = new JsonArray();
+    private UniEmitter<? super JsonObject> emitter;
+    private Buffer pending = Buffer.buffer();
+    private int position;
+    private long received;
+    private long lines;
+    private long imported;
+    private long failed;
+    private boolean writing;
+    private boolean ended;
+    private boolean terminated;
+
+    /**
+     * @param body the request body, paused until {@link #run()} subscribes
+     * @param validator checks each decoded record
+     * @param converter builds a record from a valid line
+     * @param writer writes a batch, failing to report all of its lines as failed
+     * @param batchSize records per write
+     * @param maxLineBytes longest accepted line; a longer one fails the whole import with 400
+     * @param maxErrors failed lines listed in the summary; further ones are only counted
+     * @param maxBodyBytes largest accepted body; reading past it fails the whole import with 413
+     */
+    public NdjsonImport(
+            ReadStream<Buffer> body,
+            Validator validator,
+            Function<JsonObject, T> converter,
+            Function<List<T>, Uni<?>> writer,
+            int batchSize,
+            int maxLineBytes,
+            int maxErrors,
+            long maxBodyBytes) {
+        this.body = body;
+        this.context = Vertx.currentContext();
+        this.validator = validator;
+        this.converter = converter;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.maxLineBytes = maxLineBytes;
+        this.maxErrors = maxErrors;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Reads the body to its end and emits the summary. Cancelling stops reading.
+     */
+    public Uni<JsonObject> run() {
+        return Uni.createFrom().emitter(emitter -> {
+            this.emitter = emitter;
+            emitter.onTermination(() -> {
+                if (!terminated) {
+                    terminated = true;
+                    body.pause();
+                }
+            });
+            body.exceptionHandler(this::fail);
+            body.endHandler(ignored -> {
+                ended = true;
+                drain();
+            });
+            body.handler(chunk -> {
+                // Content-Length is checked up front; this also bounds chunked bodies
+                received += chunk.length();
+                if (received > maxBodyBytes) {
+                    fail(new ServiceException(
+                            "Request body exceeds " + maxBodyBytes + " bytes", AppConstants.Status.PAYLOAD_TOO_LARGE));
+                    return;
+                }
+                pending.appendBuffer(chunk);
+                drain();
+            });
+            body.resume();
+        });
+    }
+
+    // Processes the complete lines received so far, stopping while a batch is being written
+    private void drain() {
+        while (!writing && !terminated) {
+            int end = indexOfNewline();
+            if (end < 0) {
+                break;
+            }
+            processLine(position, end);
+            position = end + 1;
+        }
+        if (writing || terminated) {
+            return;
+        }
+        // Keep only the partial line, so memory stays bounded by one chunk plus one line
+        pending = position < pending.length() ? pending.getBuffer(position, pending.length()) : Buffer.buffer();
+        position = 0;
+        if (pending.length() > maxLineBytes) {
+            fail(lineTooLong());
+            return;
+        }
+        if (ended) {
+            // A last line without a trailing newline
+            if (pending.length() > 0) {
+                processLine(0, pending.length());
+                pending = Buffer.buffer();
+            }
+            if (!writing) {
+                if (batch.isEmpty()) {
+                    complete();
+                } else {
+                    write();
+                }
+            }
+        }
+    }
+
+    private int indexOfNewline() {
+        for (int i = position; i < pending.length(); i++) {
+            if (pending.getByte(i) == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void processLine(int start, int end) {
+        if (end > start && pending.getByte(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        if (end - start > maxLineBytes) {
+            fail(lineTooLong());
+            return;
+        }
+        // Blank lines are skipped, but still counted so reported line numbers match the body
+        long line = ++lines;
+        Buffer bytes = pending.getBuffer(start, end);
+        if (isBlank(bytes)) {
+            return;
+        }
+
+        JsonObject record;
+        try {
+            record = new JsonObject(bytes);
+        } catch (DecodeException | ClassCastException e) {
+            reportError(line, "Invalid JSON object");
+            return;
+        }
+        ValidationResult validation = validator.validate(record);
+        if (!validation.isValid()) {
+            reportError(line, validation.getAllErrors());
+            return;
+        }
+        try {
+            batch.add(converter.apply(record));
+        } catch (RuntimeException e) {
+            reportError(line, e.getMessage() != null ? e.getMessage() : "Invalid record");
+            return;
+        }
+        batchLines.add(line);
+        if (batch.size() >= batchSize) {
+            write();
+        }
+    }
+
+    private void write() {
+        writing = true;
+        body.pause();
+        List<T> records = List.copyOf(batch);
+        List<Long> recordLines = List.copyOf(batchLines);
+        batch.clear();
+        batchLines.clear();
+
+        writer.apply(records)
+                .emitOn(command -> context.runOnContext(ignored -> command.run()))
+                .subscribe()
+                .with(
+                        ignored -> {
+                            imported += records.size();
+                            resume();
+                        },
+                        failure -> {
+                            String message = failure.getMessage() != null ? failure.getMessage() : "Write failed";
+                            recordLines.forEach(line -> reportError(line, message));
+                            resume();
+                        });
+    }
+
+    private void resume() {
+        writing = false;
+        if (terminated) {
+            return;
+        }
+        drain();
+        if (!writing && !ended) {
+            body.resume();
+        }
+    }
+
+    private ServiceException lineTooLong() {
+        return new ServiceException(
+                "Line " + (lines + 1) + " exceeds " + maxLineBytes + " bytes", AppConstants.Status.BAD_REQUEST);
+    }
+
+    private void reportError(long line, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new JsonObject().put("line", line).put("error", message));
+        }
+    }
+
+    private void complete() {
+        if (terminated) {
+            return;
+        }
+        terminated = true;
+        emitter.complete(new JsonObject()
+                .put("lines", lines)
+                .put("imported", imported)
+                .put("failed", failed)
+                .put("errors", errors)
+                .put("errorsTruncated", failed > errors.size()));
+    }
+
+    private void fail(Throwable failure) {
+        if (terminated) {
+            return;
+        }
+        terminated = true;
+        body.pause();
+        emitter.fail(failure);
+    }
+
+    private static boolean isBlank(Buffer bytes) {
+        for (int i = 0; i < bytes.length(); i++) {
+            byte b = bytes.getByte(i);
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.ext.web.RoutingContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The deadline of a request, stamped on arrival by {@code RequestDeadlineHandler} from
+ * {@code request-timeout-ms} and enforced by {@link RouterHelper#handleAsync}.
+ *
+ * <p>When it passes before the response has ended, the handler's subscription is cancelled, which
+ * stops the pending service work (delays, circuit-breaker calls, streams), and the request fails with
+ * 504. Requests whose deadline has already passed when their handler starts, e.g. after queueing behind
+ * a lagging event loop, fail with 503 without running it. Event-bus requests made on behalf of the
+ * request use the remaining time as their send timeout.
+ */
+public final class RequestDeadline {
+
+    private static final String CONTEXT_KEY = "requestDeadlineNanos";
+
+    private RequestDeadline() {
+        // Utility class
+    }
+
+    /**
+     * Sets the deadline of the request {@code timeoutMs} from now.
+     */
+    public static void start(RoutingContext ctx, long timeoutMs) {
+        ctx.put(CONTEXT_KEY, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    /**
+     * Removes the deadline of the request, for routes whose own timeout is disabled.
+     */
+    public static void clear(RoutingContext ctx) {
+        ctx.remove(CONTEXT_KEY);
+    }
+
+    /**
+     * Whether the request has a deadline and it has passed.
+     */
+    public static boolean expired(RoutingContext ctx) {
+        Long deadline = ctx.get(CONTEXT_KEY);
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Milliseconds left before the deadline, at least 1, or the event-bus default when the request has
+     * none. Meant as the send timeout of event-bus requests.
+     */
+    public static long remainingMs(RoutingContext ctx) {
+        Long deadline = ctx.get(CONTEXT_KEY);
+        if (deadline == null) {
+            return DeliveryOptions.DEFAULT_TIMEOUT;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    /**
+     * Fails the request with 504 and cancels {@code work} if the response has not ended by the deadline.
+     */
+    static void enforce(RoutingContext ctx, Cancellable work) {
+        if (ctx.get(CONTEXT_KEY) == null || ctx.response().ended()) {
+            return;
+        }
+        long timerId = ctx.vertx().setTimer(remainingMs(ctx), ignored -> expire(ctx, work));
+        ctx.addEndHandler(ignored -> ctx.vertx().cancelTimer(timerId));
+    }
+
+    private static void expire(RoutingContext ctx, Cancellable work) {
+        if (ctx.response().ended() || ctx.failed()) {
+            return;
+        }
+        work.cancel();
+        ctx.fail(new ServiceException("Request timed out", AppConstants.Status.GATEWAY_TIMEOUT));
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.kaivu.vertxweb.web;
+
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.Vertx;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pre-serialized responses for static and slowly changing endpoints, such as the health checks polled
+ * by load balancers. A route registers a generator and a refresh interval; the body is rebuilt on a
+ * timer of that interval, off the request path, and each hit only writes the cached bytes (see
+ * {@link CachedResponse}).
+ *
+ * <p>Each {@code AppVerticle} instance has its own cache, whose timers run on its event loop, so entries
+ * need no synchronization. {@link #invalidate(String)} drops an entry of this instance;
+ * {@link #invalidateAll(Vertx, String)} publishes the invalidation to every instance.
+ */
+@Singleton
+public class ResponseCache {
+
+    /**
+     * Address of invalidation messages; the body is the route name.
+     */
+    public static final String INVALIDATE_ADDRESS = "app.response-cache.invalidate";
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final Vertx vertx;
+    private final ApplicationConfig.ServerConfig serverConfig;
+    private final Map<String, CachedResponse> routes = new LinkedHashMap<>();
+
+    @Inject
+    public ResponseCache(Vertx vertx, ApplicationConfig appConfig) {
+        this.vertx = vertx;
+        this.serverConfig = appConfig.server();
+        vertx.eventBus().<String>localConsumer(INVALIDATE_ADDRESS, message -> invalidate(message.body()));
+    }
+
+    /**
+     * Registers a route with the default refresh interval, {@code precompressed-ttl-ms}.
+     */
+    public CachedResponse register(String name, Supplier<?> generator) {
+        return register(name, serverConfig.precompressedTtlMs(), generator);
+    }
+
+    /**
+     * Registers a route whose body is rebuilt from {@code generator} every {@code refreshIntervalMs}.
+     *
+     * @param name unique name of the route, used for invalidation
+     * @param generator builds the body, any value {@code JsonBuffers} can encode
+     */
+    public CachedResponse register(String name, long refreshIntervalMs, Supplier<?> generator) {
+        if (routes.containsKey(name)) {
+            throw new IllegalArgumentException("Response already cached under " + name);
+        }
+        CachedResponse response = new CachedResponse(name, refreshIntervalMs, generator, serverConfig);
+        routes.put(name, response);
+        // Set up from the verticle's start, so the timer runs on its event loop and ends with it
+        vertx.setPeriodic(refreshIntervalMs, id -> refresh(response));
+        log.debug("Caching response {} with a refresh interval of {} ms", name, refreshIntervalMs);
+        return response;
+    }
+
+    /**
+     * Drops the cached bytes of a route in this instance; the next hit rebuilds them.
+     */
+    public void invalidate(String name) {
+        CachedResponse response = routes.get(name);
+        if (response != null) {
+            response.invalidate();
+        }
+    }
+
+    /**
+     * Drops the cached bytes of a route in every {@code AppVerticle} instance of this process.
+     */
+    public static void invalidateAll(Vertx vertx, String name) {
+        vertx.eventBus().publish(INVALIDATE_ADDRESS, name);
+    }
+
+    private static void refresh(CachedResponse response) {
+        try {
+            response.refresh();
+        } catch (RuntimeException e) {
+            // Nothing stale is left behind; the next hit retries the build
+            response.invalidate();
+            log.warn("Failed to refresh cached response {}", response.name(), e);
+        }
+    }
+}
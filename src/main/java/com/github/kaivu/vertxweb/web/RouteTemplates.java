@@ -0,0 +1,53 @@
+package com.github.kaivu.vertxweb.web;
+
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Resolves the route template (e.g. {@code /api/users/:id}) that handled a request, for use as a
+ * low-cardinality metrics key instead of the raw path.
+ */
+public final class RouteTemplates {
+
+    public static final String UNMATCHED = "unmatched";
+
+    private static final String CONTEXT_KEY = "routeTemplate";
+
+    private RouteTemplates() {
+        // Utility class
+    }
+
+    /**
+     * Remembers the template of the route currently handling the request.
+     *
+     * <p>Call this from the final route handler: once a request fails, the current route becomes the
+     * router's failure handler and the original template can no longer be derived.
+     */
+    public static void capture(RoutingContext ctx) {
+        ctx.put(CONTEXT_KEY, fromCurrentRoute(ctx));
+    }
+
+    /**
+     * Returns the captured template, or derives it from the current route and mount point.
+     */
+    public static String resolve(RoutingContext ctx) {
+        String captured = ctx.get(CONTEXT_KEY);
+        return captured != null ? captured : fromCurrentRoute(ctx);
+    }
+
+    private static String fromCurrentRoute(RoutingContext ctx) {
+        Route route = ctx.currentRoute();
+        String mountPoint = ctx.mountPoint();
+        String routePath = route != null ? route.getPath() : null;
+
+        if (routePath == null) {
+            // Path-less route: inside a sub-router it serves the mount point itself (e.g. router.get())
+            return mountPoint != null ? stripTrailingSlash(mountPoint) : UNMATCHED;
+        }
+        return mountPoint != null ? stripTrailingSlash(mountPoint) + routePath : routePath;
+    }
+
+    private static String stripTrailingSlash(String path) {
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+}
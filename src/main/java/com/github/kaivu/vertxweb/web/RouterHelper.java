@@ -2,12 +2,19 @@ package com.github.kaivu.vertxweb.web;
 
 import com.github.kaivu.vertxweb.constants.AppConstants;
 import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.context.CorrelationScope;
+import com.github.kaivu.vertxweb.json.DataFormat;
+import com.github.kaivu.vertxweb.json.JsonBuffers;
+import com.github.kaivu.vertxweb.json.JsonWritable;
 import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
 import com.github.kaivu.vertxweb.web.validation.ValidationResult;
 import com.google.inject.Singleton;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.RoutingContext;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -23,7 +30,8 @@ import org.slf4j.LoggerFactory;
  * - Consistent error response formatting
  * - Validation error handling
  * - Path parameter and request body validation
- * - Proper content-type management
+ * - Proper content-type management, with Accept/Content-Type negotiation between JSON and the binary
+ *   formats of {@link DataFormat} (CBOR, Smile) for service-to-service callers
  *
  * <p>Designed to work seamlessly with the dual-verticle architecture,
  * Google Guice dependency injection, and the middleware pipeline.
@@ -33,19 +41,16 @@ public class RouterHelper {
 
     private static final Logger log = LoggerFactory.getLogger(RouterHelper.class);
 
-    private static final String CONTENT_TYPE = AppConstants.Http.CONTENT_TYPE_JSON;
-    private static final String CHARSET = AppConstants.Http.CHARSET_UTF8;
-    private static final String FULL_CONTENT_TYPE = CONTENT_TYPE + "; " + CHARSET;
-
     /**
      * Static method for handling async routing with clean functional pattern and automatic correlation context.
+     * The handler's work is bounded by the request's deadline (see {@link RequestDeadline}).
      *
      * <p>Usage pattern:
-     * router.get().handler(ctx -> RouterHelper.handleAsync(ctx, this::getAllUsers));
+     * router.get("/:userId").handler(ctx -> RouterHelper.handleAsync(ctx, this::getUserById));
      *
-     * private Uni<Void> getAllUsers(RoutingContext ctx) {
-     *     return userService.getAllUsers()
-     *         .onItem().invoke(users -> RouterHelper.sendJsonResponse(ctx, 200, users))
+     * private Uni<Void> getUserById(RoutingContext ctx) {
+     *     return userService.getUserById(ctx.pathParam("userId"))
+     *         .onItem().invoke(user -> RouterHelper.sendJsonResponse(ctx, 200, user))
      *         .replaceWithVoid();
      * }
      *
@@ -53,6 +58,9 @@ public class RouterHelper {
      * @param handler The async handler function that returns Uni<Void>
      */
     public static void handleAsync(RoutingContext ctx, Function<RoutingContext, Uni<Void>> handler) {
+        // Remember the route template for latency metrics before a failure hands over to the error handler
+        RouteTemplates.capture(ctx);
+
         // Create context-aware wrapper for request traceability
         ContextAwareVertxWrapper wrapper = ContextAwareVertxWrapper.fromHttpRequest(ctx.vertx(), ctx);
 
@@ -63,20 +71,29 @@ public class RouterHelper {
         // Enrich correlation context
         wrapper.getCorrelationContext().withUserId(userId).withTenantId(tenantId);
 
-        // Store wrapper in context for access in handlers
-        ctx.put("contextWrapper", wrapper);
-
-        wrapper.logEvent(
-                "request_received",
-                "method",
-                ctx.request().method().name(),
-                "path",
-                ctx.request().uri(),
-                "correlation_id",
-                wrapper.getCorrelationContext().getCorrelationId());
-
-        try {
-            handler.apply(ctx)
+        // The correlation context is attached to this request's Vert.x context by the factory above;
+        // bind it to the MDC once for the synchronous part of the handler
+        try (CorrelationScope scope = CorrelationScope.open(wrapper.getCorrelationContext())) {
+            wrapper.logEvent(
+                    "request_received",
+                    "method",
+                    ctx.request().method().name(),
+                    "path",
+                    ctx.request().uri(),
+                    "correlation_id",
+                    wrapper.getCorrelationContext().getCorrelationId());
+
+            // Queued past its deadline: the caller has likely given up, so spend nothing on it
+            if (RequestDeadline.expired(ctx)) {
+                handleFailureWithContext(
+                        ctx,
+                        new ServiceException(
+                                "Request deadline passed before processing", AppConstants.Status.SERVICE_UNAVAILABLE),
+                        wrapper);
+                return;
+            }
+
+            Cancellable subscription = handler.apply(ctx)
                     .subscribe()
                     .with(
                             ignored -> {
@@ -100,6 +117,7 @@ public class RouterHelper {
                                 }
                             },
                             failure -> handleFailureWithContext(ctx, failure, wrapper));
+            RequestDeadline.enforce(ctx, subscription);
         } catch (Exception e) {
             handleFailureWithContext(ctx, e, wrapper);
         }
@@ -219,7 +237,48 @@ public class RouterHelper {
         if (!ctx.body().available()) {
             throw new ServiceException(AppConstants.Messages.MISSING_BODY, AppConstants.Status.BAD_REQUEST);
         }
-        return ctx.body().asJsonObject();
+        DataFormat format = requestFormat(ctx);
+        if (format == DataFormat.JSON) {
+            return ctx.body().asJsonObject();
+        }
+        try {
+            return JsonBuffers.decode(ctx.body().buffer(), JsonBuffers::readObject, format);
+        } catch (DecodeException e) {
+            throw new ServiceException(
+                    "Invalid " + format.mediaType() + " request body", AppConstants.Status.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * The format of the request body from its Content-Type. Bodies without a Content-Type, or with one
+     * that is not a supported binary format, are read as JSON as before.
+     */
+    public static DataFormat requestFormat(RoutingContext ctx) {
+        DataFormat format = DataFormat.forMediaType(ctx.request().getHeader(HttpHeaders.CONTENT_TYPE));
+        return format != null ? format : DataFormat.JSON;
+    }
+
+    /**
+     * The response format preferred by the Accept header, in quality order. JSON is used when the
+     * header is absent, accepts anything, or names no supported format; a plain JSON API never answers
+     * 406 to a client that asked for something else.
+     */
+    public static DataFormat responseFormat(RoutingContext ctx) {
+        String accept = ctx.request().getHeader(HttpHeaders.ACCEPT);
+        // Most requests accept JSON or anything; only parse the header when it names a binary format
+        if (accept == null || (accept.indexOf("cbor") < 0 && accept.indexOf("smile") < 0)) {
+            return DataFormat.JSON;
+        }
+        for (MIMEHeader header : ctx.parsedHeaders().accept()) {
+            if ("*".equals(header.subComponent())) {
+                return DataFormat.JSON;
+            }
+            DataFormat format = DataFormat.forMediaType(header.component() + "/" + header.subComponent());
+            if (format != null) {
+                return format;
+            }
+        }
+        return DataFormat.JSON;
     }
 
     /**
@@ -255,17 +314,32 @@ public class RouterHelper {
     }
 
     /**
-     * Sends a JSON response with the specified status code and body.
+     * Sends a JSON response with the specified status code and body, or the same body as CBOR or Smile
+     * when the Accept header asks for it (see {@link #responseFormat}).
      *
      * @param ctx The routing context
      * @param statusCode The HTTP status code
      * @param response The JSON response body
      */
     public static void sendJsonResponse(RoutingContext ctx, int statusCode, JsonObject response) {
-        ctx.response()
-                .setStatusCode(statusCode)
-                .putHeader(HttpHeaders.CONTENT_TYPE, FULL_CONTENT_TYPE)
-                .end(response.encode());
+        sendNegotiated(ctx, statusCode, response);
+    }
+
+    /**
+     * Sends a typed model, serialized by its own streaming writer, with the specified status code and
+     * the negotiated format.
+     *
+     * @param ctx The routing context
+     * @param statusCode The HTTP status code
+     * @param response The response body
+     */
+    public static void sendJsonResponse(RoutingContext ctx, int statusCode, JsonWritable response) {
+        sendNegotiated(ctx, statusCode, response);
+    }
+
+    private static void sendNegotiated(RoutingContext ctx, int statusCode, Object response) {
+        ctx.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        JsonResponseWriter.send(ctx.response(), statusCode, response, responseFormat(ctx));
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.github.kaivu.vertxweb.web.rests;
 
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.web.CachedResponse;
+import com.github.kaivu.vertxweb.web.ResponseCache;
 import com.github.kaivu.vertxweb.web.RouterHelper;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -28,11 +30,13 @@ public class CommonRouter {
     private final Router router;
 
     private final RouterHelper routerHelper;
+    private final CachedResponse publicResponse;
 
     @Inject
-    public CommonRouter(final Vertx vertx, RouterHelper routerHelper) {
+    public CommonRouter(final Vertx vertx, RouterHelper routerHelper, ResponseCache responseCache) {
         this.router = Router.router(vertx);
         this.routerHelper = routerHelper;
+        this.publicResponse = responseCache.register("common.public", this::publicBody);
         setupCors();
         initializeRoutes();
     }
@@ -50,12 +54,15 @@ public class CommonRouter {
     }
 
     private Uni<Void> publicHandler(RoutingContext ctx) {
-        JsonObject response = new JsonObject()
+        ctx.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        publicResponse.send(ctx, AppConstants.Status.OK, RouterHelper.responseFormat(ctx));
+        return Uni.createFrom().voidItem();
+    }
+
+    private JsonObject publicBody() {
+        return new JsonObject()
                 .put("message", "This is a public endpoint, no authentication required.")
                 .put("status", "success")
                 .put("timestamp", System.currentTimeMillis());
-
-        RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, response);
-        return Uni.createFrom().voidItem();
     }
 }
@@ -2,11 +2,19 @@ package com.github.kaivu.vertxweb.web.rests;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.json.DataFormat;
+import com.github.kaivu.vertxweb.metrics.EventLoopLagSnapshot;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.metrics.RouteLatencySnapshot;
+import com.github.kaivu.vertxweb.web.CachedResponse;
+import com.github.kaivu.vertxweb.web.JsonResponseWriter;
+import com.github.kaivu.vertxweb.web.ResponseCache;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -26,13 +34,21 @@ public class HealthRouter {
 
     private final Vertx vertx;
     private final ApplicationConfig appConfig;
+    private final MetricsRegistry metricsRegistry;
     private final long startTime;
+    private final CachedResponse healthSummary;
+    private final CachedResponse liveness;
 
     @Inject
-    public HealthRouter(Vertx vertx, ApplicationConfig appConfig) {
+    public HealthRouter(
+            Vertx vertx, ApplicationConfig appConfig, MetricsRegistry metricsRegistry, ResponseCache responseCache) {
         this.vertx = vertx;
         this.appConfig = appConfig;
+        this.metricsRegistry = metricsRegistry;
         this.startTime = System.currentTimeMillis();
+        // Polled by load balancers and monitoring: served pre-serialized, rebuilt on the cache's timer
+        this.healthSummary = responseCache.register("health.summary", this::healthStatus);
+        this.liveness = responseCache.register("health.liveness", this::livenessStatus);
     }
 
     public void configureRoutes(Router router) {
@@ -40,19 +56,19 @@ public class HealthRouter {
         router.get("/health/readiness").handler(this::readinessCheck);
         router.get("/health/liveness").handler(this::livenessCheck);
         router.get("/health/detailed").handler(this::detailedHealthCheck);
+        router.get("/health/metrics").handler(this::metrics);
     }
 
     private void healthCheck(RoutingContext context) {
-        JsonObject healthStatus = new JsonObject()
+        healthSummary.send(context, AppConstants.Status.OK, DataFormat.JSON);
+    }
+
+    private JsonObject healthStatus() {
+        return new JsonObject()
                 .put("status", "UP")
                 .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                 .put("uptime", getUptimeMs())
                 .put("version", "1.0.0");
-
-        context.response()
-                .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                .setStatusCode(AppConstants.Status.OK)
-                .end(healthStatus.encode());
     }
 
     private void readinessCheck(RoutingContext context) {
@@ -64,10 +80,7 @@ public class HealthRouter {
                             .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                             .put("dependencies", result);
 
-                    context.response()
-                            .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                            .setStatusCode(AppConstants.Status.OK)
-                            .end(readiness.encode());
+                    JsonResponseWriter.send(context, AppConstants.Status.OK, readiness);
                 })
                 .onFailure(error -> {
                     log.error("Readiness check failed", error);
@@ -76,27 +89,29 @@ public class HealthRouter {
                             .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                             .put("error", error.getMessage());
 
-                    context.response()
-                            .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                            .setStatusCode(AppConstants.Status.SERVICE_UNAVAILABLE)
-                            .end(failure.encode());
+                    JsonResponseWriter.send(context, AppConstants.Status.SERVICE_UNAVAILABLE, failure);
                 });
     }
 
     private void livenessCheck(RoutingContext context) {
         // Basic liveness check - if we can respond, we're alive
-        long uptime = getUptimeMs();
-        boolean isAlive = uptime > 0 && !Thread.currentThread().isInterrupted();
+        if (isAlive()) {
+            liveness.send(context, AppConstants.Status.OK, DataFormat.JSON);
+        } else {
+            // Never cached, so the failure is reported as soon as it happens
+            JsonResponseWriter.send(context, AppConstants.Status.SERVICE_UNAVAILABLE, livenessStatus());
+        }
+    }
 
-        JsonObject liveness = new JsonObject()
-                .put("status", isAlive ? "ALIVE" : "DEAD")
+    private JsonObject livenessStatus() {
+        return new JsonObject()
+                .put("status", isAlive() ? "ALIVE" : "DEAD")
                 .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                .put("uptime", uptime);
+                .put("uptime", getUptimeMs());
+    }
 
-        context.response()
-                .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                .setStatusCode(isAlive ? AppConstants.Status.OK : AppConstants.Status.SERVICE_UNAVAILABLE)
-                .end(liveness.encode());
+    private boolean isAlive() {
+        return getUptimeMs() > 0 && !Thread.currentThread().isInterrupted();
     }
 
     private void detailedHealthCheck(RoutingContext context) {
@@ -146,10 +161,7 @@ public class HealthRouter {
                                                     "workerPoolSize",
                                                     appConfig.worker().poolSize()));
 
-                    context.response()
-                            .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                            .setStatusCode(AppConstants.Status.OK)
-                            .end(detailed.encode());
+                    JsonResponseWriter.send(context, AppConstants.Status.OK, detailed);
                 })
                 .onFailure(error -> {
                     log.error("Detailed health check failed", error);
@@ -158,21 +170,54 @@ public class HealthRouter {
                             .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                             .put("error", error.getMessage());
 
-                    context.response()
-                            .putHeader("content-type", AppConstants.Http.CONTENT_TYPE_JSON)
-                            .setStatusCode(AppConstants.Status.SERVICE_UNAVAILABLE)
-                            .end(failure.encode());
+                    JsonResponseWriter.send(context, AppConstants.Status.SERVICE_UNAVAILABLE, failure);
                 });
     }
 
+    private void metrics(RoutingContext context) {
+        // Per-route latency histograms recorded by LoggingHandler, merged across all event loops
+        JsonArray requests = new JsonArray();
+        for (RouteLatencySnapshot snapshot : metricsRegistry.requests().snapshot()) {
+            requests.add(snapshot.toJson());
+        }
+
+        // Rolling scheduling lag per event loop, with the verticle instances each loop serves
+        JsonArray eventLoopLag = new JsonArray();
+        for (EventLoopLagSnapshot snapshot : metricsRegistry.eventLoops().snapshot()) {
+            eventLoopLag.add(snapshot.toJson());
+        }
+
+        // Blocking task counts and queue wait vs. execution time per operation
+        JsonArray workerPools = new JsonArray();
+        metricsRegistry.workerPools().pools().values().forEach(pool -> workerPools.add(pool.toJson()));
+
+        // Adaptive concurrency limit and admitted requests per route group
+        JsonArray concurrencyLimits = new JsonArray();
+        metricsRegistry.concurrencyLimiters().forEach(limiter -> concurrencyLimits.add(limiter.toJson()));
+
+        JsonObject metrics = new JsonObject()
+                .put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .put("uptime", getUptimeMs())
+                .put("eventLoops", metricsRegistry.requests().recordingThreads())
+                .put("requests", requests)
+                .put("eventLoopLag", eventLoopLag)
+                .put("workerPools", workerPools)
+                .put("concurrencyLimits", concurrencyLimits);
+
+        JsonResponseWriter.send(context, AppConstants.Status.OK, metrics);
+    }
+
     private Future<JsonObject> checkDependencies() {
         // Check EventBus connectivity
         DeliveryOptions options = new DeliveryOptions().setSendTimeout(5000);
         JsonObject healthCheckMessage =
                 new JsonObject().put("type", "health-check").put("timestamp", System.currentTimeMillis());
 
-        return vertx.eventBus()
-                .<JsonObject>request(HEALTH_CHECK_EVENT, healthCheckMessage, options)
+        return metricsRegistry
+                .eventBus()
+                .timeReply(
+                        HEALTH_CHECK_EVENT,
+                        () -> vertx.eventBus().<JsonObject>request(HEALTH_CHECK_EVENT, healthCheckMessage, options))
                 .map(reply -> new JsonObject()
                         .put(
                                 "eventBus",
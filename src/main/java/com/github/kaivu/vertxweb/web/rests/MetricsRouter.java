@@ -0,0 +1,50 @@
+package com.github.kaivu.vertxweb.web.rests;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.metrics.PrometheusExporter;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prometheus scrape endpoint. Kept apart from {@link HealthRouter}: health checks answer "is it up",
+ * this endpoint exports the raw series for dashboards and alerts.
+ */
+@Singleton
+public class MetricsRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsRouter.class);
+    private static final String METRICS_PATH = "/metrics";
+
+    private final Vertx vertx;
+    private final PrometheusExporter exporter;
+
+    @Inject
+    public MetricsRouter(Vertx vertx, MetricsRegistry metricsRegistry) {
+        this.vertx = vertx;
+        this.exporter = new PrometheusExporter(metricsRegistry);
+    }
+
+    public void configureRoutes(Router router) {
+        router.get(METRICS_PATH).handler(this::scrape);
+    }
+
+    private void scrape(RoutingContext context) {
+        // Rendering merges histograms and reads JMX; unordered so concurrent scrapes don't queue up
+        vertx.executeBlocking(exporter::scrape, false)
+                .onSuccess(body -> context.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, PrometheusExporter.CONTENT_TYPE)
+                        .setStatusCode(AppConstants.Status.OK)
+                        .end(body))
+                .onFailure(error -> {
+                    log.error("Failed to render Prometheus metrics", error);
+                    context.fail(error);
+                });
+    }
+}
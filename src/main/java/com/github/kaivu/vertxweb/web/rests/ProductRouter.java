@@ -1,8 +1,16 @@
 package com.github.kaivu.vertxweb.web.rests;
 
+import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.constants.AppConstants;
 import com.github.kaivu.vertxweb.context.ContextAwareVertxWrapper;
+import com.github.kaivu.vertxweb.context.CorrelationHeaders;
+import com.github.kaivu.vertxweb.json.LocalJsonObjectCodec;
+import com.github.kaivu.vertxweb.metrics.MetricsRegistry;
+import com.github.kaivu.vertxweb.models.Product;
 import com.github.kaivu.vertxweb.services.ProductService;
+import com.github.kaivu.vertxweb.web.JsonStreamWriter;
+import com.github.kaivu.vertxweb.web.NdjsonImport;
+import com.github.kaivu.vertxweb.web.RequestDeadline;
 import com.github.kaivu.vertxweb.web.RouterHelper;
 import com.github.kaivu.vertxweb.web.validation.ValidationResult;
 import com.github.kaivu.vertxweb.web.validation.Validator;
@@ -10,40 +18,56 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
-import io.vertx.ext.web.handler.BodyHandler;
 import lombok.Getter;
 
 @Singleton
 public class ProductRouter {
-    private static final String CONTENT_TYPE = AppConstants.Http.CONTENT_TYPE_JSON;
     private static final int HTTP_OK = AppConstants.Status.OK;
+    private static final String ANALYTICS_REPORT_ADDRESS = "app.worker.analytics-report";
+    private static final String BATCH_OPERATION_ADDRESS = "app.worker.batch-operation";
 
     @Getter
     private final Router router;
 
     private final ProductService productService;
     private final RouterHelper routerHelper;
+    private final MetricsRegistry metricsRegistry;
+    private final ApplicationConfig appConfig;
 
     @Inject
-    public ProductRouter(Vertx vertx, ProductService productService, RouterHelper routerHelper) {
+    public ProductRouter(
+            Vertx vertx,
+            ProductService productService,
+            RouterHelper routerHelper,
+            MetricsRegistry metricsRegistry,
+            ApplicationConfig appConfig) {
         this.router = Router.router(vertx);
         this.productService = productService;
         this.routerHelper = routerHelper;
+        this.metricsRegistry = metricsRegistry;
+        this.appConfig = appConfig;
         setupRoutes();
     }
 
     private void setupRoutes() {
-        // Add BodyHandler to parse request bodies
-        router.route().handler(BodyHandler.create());
-
         // API routes using clean async pattern
         router.get().handler(ctx -> RouterHelper.handleAsync(ctx, this::getAllProducts));
         router.get("/:productId").handler(ctx -> RouterHelper.handleAsync(ctx, this::getProductById));
         router.post().handler(ctx -> RouterHelper.handleAsync(ctx, this::createProduct));
+        // Streamed body (see RouterConfig): bounded by its own, longer deadline
+        router.post("/import").handler(ctx -> {
+            long timeoutMs = appConfig.service().importTimeoutMs();
+            if (timeoutMs > 0) {
+                RequestDeadline.start(ctx, timeoutMs);
+            } else {
+                RequestDeadline.clear(ctx);
+            }
+            RouterHelper.handleAsync(ctx, this::importProducts);
+        });
         router.put("/:productId/stock").handler(ctx -> RouterHelper.handleAsync(ctx, this::updateProductStock));
 
         // Context-aware analytics and batch operations
@@ -52,11 +76,7 @@ public class ProductRouter {
     }
 
     private Uni<Void> getAllProducts(RoutingContext ctx) {
-        return productService
-                .getAllProductsWithContext(ctx)
-                .onItem()
-                .invoke(products -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, products))
-                .replaceWithVoid();
+        return JsonStreamWriter.stream(ctx, AppConstants.Status.OK, "products", productService.streamAllProducts());
     }
 
     private Uni<Void> getProductById(RoutingContext ctx) {
@@ -64,7 +84,7 @@ public class ProductRouter {
         String productId = routerHelper.validatePathParam(ctx, "productId");
 
         return productService
-                .getProductByIdWithContext(productId, ctx)
+                .getProductById(productId)
                 .onItem()
                 .invoke(product -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, product))
                 .replaceWithVoid();
@@ -79,7 +99,7 @@ public class ProductRouter {
         routerHelper.handleValidationErrors(validation);
 
         return productService
-                .createProductWithContext(body, ctx)
+                .createProduct(Product.fromRequest(body))
                 .onItem()
                 .invoke(newProduct -> {
                     JsonObject response = new JsonObject()
@@ -90,6 +110,23 @@ public class ProductRouter {
                 .replaceWithVoid();
     }
 
+    private Uni<Void> importProducts(RoutingContext ctx) {
+        ApplicationConfig.ServiceConfig service = appConfig.service();
+        return new NdjsonImport<>(
+                        ctx.request(),
+                        Validator.Products.CREATE,
+                        Product::fromRequest,
+                        productService::importProducts,
+                        service.importBatchSize(),
+                        service.importMaxLineBytes(),
+                        service.importMaxErrors(),
+                        service.importMaxBodyBytes())
+                .run()
+                .onItem()
+                .invoke(summary -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, summary))
+                .replaceWithVoid();
+    }
+
     private Uni<Void> updateProductStock(RoutingContext ctx) {
         // Validate path parameter using RouterHelper
         String productId = routerHelper.validatePathParam(ctx, "productId");
@@ -104,7 +141,7 @@ public class ProductRouter {
         // Extract quantity and handle service response
         int newQuantity = body.getInteger("quantity");
         return productService
-                .updateProductStockWithContext(productId, newQuantity, ctx)
+                .updateProductStock(productId, newQuantity)
                 .onItem()
                 .invoke(updatedProduct -> {
                     JsonObject response = new JsonObject()
@@ -132,52 +169,67 @@ public class ProductRouter {
         JsonObject requestData =
                 new JsonObject().put("reportType", "analytics").put("timestamp", System.currentTimeMillis());
 
-        // Enrich with correlation context for EventBus
-        wrapper.enrichEventBusMessage(requestData);
-
-        ctx.vertx().eventBus().request("app.worker.analytics-report", requestData, reply -> {
-            if (reply.succeeded()) {
-                JsonObject report = new JsonObject(reply.result().body().toString());
-
-                wrapper.logEvent(
-                        "analytics_response_success",
-                        "duration_ms",
-                        wrapper.getCorrelationContext().getProcessingDurationMs(),
-                        "correlation_id",
-                        wrapper.getCorrelationContext().getCorrelationId());
-
-                sendJsonResponse(ctx, HTTP_OK, report);
-            } else {
-                // Extract status code from ServiceException if available
-                int statusCode = AppConstants.Status.INTERNAL_SERVER_ERROR; // default
-                String errorMessage = "Failed to generate analytics report";
-
-                if (reply.cause() instanceof io.vertx.core.eventbus.ReplyException) {
-                    io.vertx.core.eventbus.ReplyException replyEx =
-                            (io.vertx.core.eventbus.ReplyException) reply.cause();
-                    statusCode = replyEx.failureCode();
-                    errorMessage = replyEx.getMessage();
-                }
-
-                wrapper.logEvent(
-                        "analytics_response_error",
-                        "error",
-                        errorMessage,
-                        "status_code",
-                        statusCode,
-                        "correlation_id",
-                        wrapper.getCorrelationContext().getCorrelationId());
-
-                JsonObject errorResponse = new JsonObject()
-                        .put("error", errorMessage)
-                        .put("status", "error")
-                        .put("statusCode", statusCode)
-                        .put("correlationId", wrapper.getCorrelationContext().getCorrelationId())
-                        .put("timestamp", System.currentTimeMillis());
-
-                sendJsonResponse(ctx, statusCode, errorResponse);
-            }
-        });
+        // Correlation context travels as message headers; the payload stays untouched. The reply is
+        // awaited no longer than the request's deadline
+        DeliveryOptions options = wrapper.deliveryOptions()
+                .setCodecName(LocalJsonObjectCodec.NAME)
+                .setSendTimeout(RequestDeadline.remainingMs(ctx));
+
+        metricsRegistry
+                .eventBus()
+                .timeReply(
+                        ANALYTICS_REPORT_ADDRESS,
+                        () -> ctx.vertx()
+                                .eventBus()
+                                .<JsonObject>request(ANALYTICS_REPORT_ADDRESS, requestData, options))
+                .onComplete(reply -> {
+                    if (reply.succeeded()) {
+                        JsonObject report = reply.result().body();
+
+                        wrapper.logEvent(
+                                "analytics_response_success",
+                                "duration_ms",
+                                wrapper.getCorrelationContext().getProcessingDurationMs(),
+                                "worker_ms",
+                                CorrelationHeaders.processingMs(reply.result().headers()),
+                                "correlation_id",
+                                wrapper.getCorrelationContext().getCorrelationId());
+
+                        RouterHelper.sendJsonResponse(ctx, HTTP_OK, report);
+                    } else {
+                        // Extract status code from ServiceException if available
+                        int statusCode = AppConstants.Status.INTERNAL_SERVER_ERROR; // default
+                        String errorMessage = "Failed to generate analytics report";
+
+                        if (reply.cause() instanceof io.vertx.core.eventbus.ReplyException) {
+                            io.vertx.core.eventbus.ReplyException replyEx =
+                                    (io.vertx.core.eventbus.ReplyException) reply.cause();
+                            // No reply within the request's remaining time
+                            statusCode = replyEx.failureType() == io.vertx.core.eventbus.ReplyFailure.TIMEOUT
+                                    ? AppConstants.Status.GATEWAY_TIMEOUT
+                                    : replyEx.failureCode();
+                            errorMessage = replyEx.getMessage();
+                        }
+
+                        wrapper.logEvent(
+                                "analytics_response_error",
+                                "error",
+                                errorMessage,
+                                "status_code",
+                                statusCode,
+                                "correlation_id",
+                                wrapper.getCorrelationContext().getCorrelationId());
+
+                        JsonObject errorResponse = new JsonObject()
+                                .put("error", errorMessage)
+                                .put("status", "error")
+                                .put("statusCode", statusCode)
+                                .put("correlationId", wrapper.getCorrelationContext().getCorrelationId())
+                                .put("timestamp", System.currentTimeMillis());
+
+                        RouterHelper.sendJsonResponse(ctx, statusCode, errorResponse);
+                    }
+                });
     }
 
     private void processBatchOperation(RoutingContext ctx) {
@@ -203,63 +255,69 @@ public class ProductRouter {
             requestData.put("confirmDelete", "true".equals(confirm));
         }
 
-        // Enrich with correlation context for EventBus
-        wrapper.enrichEventBusMessage(requestData);
-
-        ctx.vertx().eventBus().request("app.worker.batch-operation", requestData, reply -> {
-            if (reply.succeeded()) {
-                JsonObject result = new JsonObject(reply.result().body().toString());
-
-                wrapper.logEvent(
-                        "batch_operation_response_success",
-                        "operation",
-                        operation,
-                        "duration_ms",
-                        wrapper.getCorrelationContext().getProcessingDurationMs(),
-                        "correlation_id",
-                        wrapper.getCorrelationContext().getCorrelationId());
-
-                sendJsonResponse(ctx, HTTP_OK, result);
-            } else {
-                // Extract status code from ServiceException
-                int statusCode = AppConstants.Status.INTERNAL_SERVER_ERROR;
-                String errorMessage = "Batch operation failed";
-
-                if (reply.cause() instanceof io.vertx.core.eventbus.ReplyException) {
-                    io.vertx.core.eventbus.ReplyException replyEx =
-                            (io.vertx.core.eventbus.ReplyException) reply.cause();
-                    statusCode = replyEx.failureCode();
-                    errorMessage = replyEx.getMessage();
-                }
-
-                wrapper.logEvent(
-                        "batch_operation_response_error",
-                        "operation",
-                        operation,
-                        "error",
-                        errorMessage,
-                        "status_code",
-                        statusCode,
-                        "correlation_id",
-                        wrapper.getCorrelationContext().getCorrelationId());
-
-                JsonObject errorResponse = new JsonObject()
-                        .put("error", errorMessage)
-                        .put("status", "error")
-                        .put("operation", operation)
-                        .put("statusCode", statusCode)
-                        .put("correlationId", wrapper.getCorrelationContext().getCorrelationId())
-                        .put("timestamp", System.currentTimeMillis());
-
-                sendJsonResponse(ctx, statusCode, errorResponse);
-            }
-        });
-    }
-
-    private void sendJsonResponse(RoutingContext ctx, int statusCode, JsonObject response) {
-        ctx.response()
-                .setStatusCode(statusCode)
-                .putHeader(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE)
-                .end(response.encode());
+        // Correlation context travels as message headers; the payload stays untouched. The reply is
+        // awaited no longer than the request's deadline
+        DeliveryOptions options = wrapper.deliveryOptions()
+                .setCodecName(LocalJsonObjectCodec.NAME)
+                .setSendTimeout(RequestDeadline.remainingMs(ctx));
+
+        metricsRegistry
+                .eventBus()
+                .timeReply(
+                        BATCH_OPERATION_ADDRESS,
+                        () -> ctx.vertx().eventBus().<JsonObject>request(BATCH_OPERATION_ADDRESS, requestData, options))
+                .onComplete(reply -> {
+                    if (reply.succeeded()) {
+                        JsonObject result = reply.result().body();
+
+                        wrapper.logEvent(
+                                "batch_operation_response_success",
+                                "operation",
+                                operation,
+                                "duration_ms",
+                                wrapper.getCorrelationContext().getProcessingDurationMs(),
+                                "worker_ms",
+                                CorrelationHeaders.processingMs(reply.result().headers()),
+                                "correlation_id",
+                                wrapper.getCorrelationContext().getCorrelationId());
+
+                        RouterHelper.sendJsonResponse(ctx, HTTP_OK, result);
+                    } else {
+                        // Extract status code from ServiceException
+                        int statusCode = AppConstants.Status.INTERNAL_SERVER_ERROR;
+                        String errorMessage = "Batch operation failed";
+
+                        if (reply.cause() instanceof io.vertx.core.eventbus.ReplyException) {
+                            io.vertx.core.eventbus.ReplyException replyEx =
+                                    (io.vertx.core.eventbus.ReplyException) reply.cause();
+                            // No reply within the request's remaining time
+                            statusCode = replyEx.failureType() == io.vertx.core.eventbus.ReplyFailure.TIMEOUT
+                                    ? AppConstants.Status.GATEWAY_TIMEOUT
+                                    : replyEx.failureCode();
+                            errorMessage = replyEx.getMessage();
+                        }
+
+                        wrapper.logEvent(
+                                "batch_operation_response_error",
+                                "operation",
+                                operation,
+                                "error",
+                                errorMessage,
+                                "status_code",
+                                statusCode,
+                                "correlation_id",
+                                wrapper.getCorrelationContext().getCorrelationId());
+
+                        JsonObject errorResponse = new JsonObject()
+                                .put("error", errorMessage)
+                                .put("status", "error")
+                                .put("operation", operation)
+                                .put("statusCode", statusCode)
+                                .put("correlationId", wrapper.getCorrelationContext().getCorrelationId())
+                                .put("timestamp", System.currentTimeMillis());
+
+                        RouterHelper.sendJsonResponse(ctx, statusCode, errorResponse);
+                    }
+                });
     }
 }
@@ -1,7 +1,9 @@
 package com.github.kaivu.vertxweb.web.rests;
 
 import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.models.User;
 import com.github.kaivu.vertxweb.services.UserService;
+import com.github.kaivu.vertxweb.web.JsonStreamWriter;
 import com.github.kaivu.vertxweb.web.RouterHelper;
 import com.github.kaivu.vertxweb.web.validation.ValidationResult;
 import com.github.kaivu.vertxweb.web.validation.Validator;
@@ -12,7 +14,6 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
-import io.vertx.ext.web.handler.BodyHandler;
 import lombok.Getter;
 
 @Singleton
@@ -33,9 +34,6 @@ public class UserRouter {
     }
 
     private void setupRoutes() {
-        // Add BodyHandler to parse request bodies
-        router.route().handler(BodyHandler.create());
-
         // API routes using clean async pattern
         router.get().handler(ctx -> RouterHelper.handleAsync(ctx, this::getAllUsers));
         router.get("/:id").handler(ctx -> RouterHelper.handleAsync(ctx, this::getUserById));
@@ -45,11 +43,7 @@ public class UserRouter {
     }
 
     private Uni<Void> getAllUsers(RoutingContext ctx) {
-        return userService
-                .getAllUsersWithContext(ctx)
-                .onItem()
-                .invoke(users -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, users))
-                .replaceWithVoid();
+        return JsonStreamWriter.stream(ctx, AppConstants.Status.OK, "users", userService.streamAllUsers());
     }
 
     /**
@@ -61,7 +55,7 @@ public class UserRouter {
         String userId = routerHelper.validatePathParam(ctx, "id");
 
         return userService
-                .getUserByIdWithContext(userId, ctx)
+                .getUserById(userId)
                 .onItem()
                 .invoke(user -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, user))
                 .replaceWithVoid();
@@ -80,7 +74,7 @@ public class UserRouter {
         routerHelper.handleValidationErrors(validation);
 
         return userService
-                .createUserWithContext(body, ctx)
+                .createUser(User.fromRequest(body))
                 .onItem()
                 .invoke(newUser -> {
                     JsonObject response = new JsonObject()
@@ -103,7 +97,7 @@ public class UserRouter {
         routerHelper.handleValidationErrors(validation);
 
         return userService
-                .updateUserWithContext(userId, body, ctx)
+                .updateUser(userId, body)
                 .onItem()
                 .invoke(updatedUser -> {
                     JsonObject response = new JsonObject()
@@ -119,7 +113,7 @@ public class UserRouter {
         String userId = routerHelper.validatePathParam(ctx, "id");
 
         return userService
-                .deleteUserWithContext(userId, ctx)
+                .deleteUser(userId)
                 .onItem()
                 .invoke(result -> RouterHelper.sendJsonResponse(ctx, AppConstants.Status.OK, result))
                 .replaceWithVoid();
@@ -2,15 +2,21 @@ package com.github.kaivu.vertxweb.web.routes;
 
 import com.github.kaivu.vertxweb.config.ApplicationConfig;
 import com.github.kaivu.vertxweb.middlewares.AuthHandler;
+import com.github.kaivu.vertxweb.middlewares.CompressionHandler;
+import com.github.kaivu.vertxweb.middlewares.ConcurrencyLimitHandler;
 import com.github.kaivu.vertxweb.middlewares.ErrorHandler;
 import com.github.kaivu.vertxweb.middlewares.LoggingHandler;
+import com.github.kaivu.vertxweb.middlewares.RequestBodyHandler;
+import com.github.kaivu.vertxweb.middlewares.RequestDeadlineHandler;
 import com.github.kaivu.vertxweb.web.rests.CommonRouter;
 import com.github.kaivu.vertxweb.web.rests.HealthRouter;
+import com.github.kaivu.vertxweb.web.rests.MetricsRouter;
 import com.github.kaivu.vertxweb.web.rests.ProductRouter;
 import com.github.kaivu.vertxweb.web.rests.UserRouter;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Router;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -32,6 +38,7 @@ public class RouterConfig {
 
     private final CommonRouter commonRouter;
     private final HealthRouter healthRouter;
+    private final MetricsRouter metricsRouter;
     private final UserRouter userRouter;
     private final ProductRouter productRouter;
 
@@ -42,9 +49,14 @@ public class RouterConfig {
             ApplicationConfig appConfig,
             LoggingHandler loggingHandler,
             AuthHandler authHandler,
+            RequestBodyHandler requestBodyHandler,
+            RequestDeadlineHandler requestDeadlineHandler,
+            ConcurrencyLimitHandler concurrencyLimitHandler,
+            CompressionHandler compressionHandler,
             ErrorHandler errorHandler,
             CommonRouter commonRouter,
             HealthRouter healthRouter,
+            MetricsRouter metricsRouter,
             UserRouter userRouter,
             ProductRouter productRouter) {
         this.vertx = vertx;
@@ -55,18 +67,42 @@ public class RouterConfig {
         this.router = router;
         this.commonRouter = commonRouter;
         this.healthRouter = healthRouter;
+        this.metricsRouter = metricsRouter;
         this.userRouter = userRouter;
         this.productRouter = productRouter;
 
         // Setup middleware pipeline in correct order
+        router.route().handler(requestDeadlineHandler::stamp);
+        router.route().handler(compressionHandler::applyPolicy);
         router.route().handler(loggingHandler::logRequest);
         router.route().handler(authHandler::authenticateRequest);
+        // Excess requests are turned away before their bodies are read
+        setupConcurrencyLimits(concurrencyLimitHandler);
+        // Bodies are read once authenticated, within the configured limits
+        requestBodyHandler.streaming(
+                router,
+                HttpMethod.POST,
+                appConfig.server().apiPrefix() + "/products/import",
+                appConfig.service().importMaxBodyBytes());
+        requestBodyHandler.configure(router);
         setupRoutes();
 
         // Global error handling
         router.route().failureHandler(errorHandler::handle);
     }
 
+    private void setupConcurrencyLimits(ConcurrencyLimitHandler concurrencyLimitHandler) {
+        String apiPrefix = appConfig.server().apiPrefix();
+
+        // Narrowest groups first. Imports run for minutes, so they are kept out of the products group:
+        // their round-trip times would read as overload and shrink its limit for the product reads and writes
+        router.route(HttpMethod.POST, apiPrefix + "/products/import").handler(concurrencyLimitHandler.limit("imports"));
+        // Analytics reports are limited apart from the other product routes
+        router.route(apiPrefix + "/products/analytics/*").handler(concurrencyLimitHandler.limit("analytics"));
+        router.route(apiPrefix + "/users/*").handler(concurrencyLimitHandler.limit("users"));
+        router.route(apiPrefix + "/products/*").handler(concurrencyLimitHandler.limit("products"));
+    }
+
     private void setupRoutes() {
         String apiPrefix = appConfig.server().apiPrefix();
 
@@ -76,12 +112,15 @@ public class RouterConfig {
         // Health check routes (public, no authentication required)
         healthRouter.configureRoutes(router);
 
+        // Prometheus scrape endpoint
+        metricsRouter.configureRoutes(router);
+
         // Protected routes
         router.route(apiPrefix + "/users/*").subRouter(userRouter.getRouter());
         router.route(apiPrefix + "/products/*").subRouter(productRouter.getRouter());
 
         log.info(
-                "RouterConfig initialized with API prefix: {} and health endpoints",
+                "RouterConfig initialized with API prefix: {}, health and metrics endpoints",
                 appConfig.server().apiPrefix());
     }
 }
@@ -0,0 +1,150 @@
+package com.github.kaivu.vertxweb.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class EventRingTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(2, new EventRing(1).capacity());
+        assertEquals(2, new EventRing(2).capacity());
+        assertEquals(4, new EventRing(3).capacity());
+        assertEquals(1024, new EventRing(1000).capacity());
+        assertEquals(1024, new EventRing(1024).capacity());
+        assertEquals(2048, new EventRing(1025).capacity());
+    }
+
+    @Test
+    void claimReturnsNullWhenFull() {
+        EventRing ring = new EventRing(4);
+        for (int i = 0; i < 4; i++) {
+            StructuredEvent slot = ring.claim();
+            assertNotNull(slot);
+            slot.name = "event-" + i;
+            ring.publish(slot);
+        }
+
+        assertNull(ring.claim());
+
+        assertEquals(1, ring.drain(event -> {}, 1));
+        assertNotNull(ring.claim());
+    }
+
+    @Test
+    void claimedButUnpublishedSlotBlocksDrain() {
+        EventRing ring = new EventRing(4);
+        StructuredEvent first = ring.claim();
+        StructuredEvent second = ring.claim();
+        ring.publish(second);
+
+        assertEquals(0, ring.drain(event -> {}, 4));
+
+        ring.publish(first);
+        assertEquals(2, ring.drain(event -> {}, 4));
+    }
+
+    @Test
+    void drainsInOrderAcrossWrapAround() {
+        EventRing ring = new EventRing(4);
+        List<String> drained = new ArrayList<>();
+        int next = 0;
+
+        // Three laps of the ring, publishing and draining in uneven steps so positions wrap mid-batch
+        for (int round = 0; round < 6; round++) {
+            for (int i = 0; i < 3; i++) {
+                StructuredEvent slot = ring.claim();
+                assertNotNull(slot);
+                slot.name = "event-" + next++;
+                ring.publish(slot);
+            }
+            ring.drain(event -> drained.add(event.name), 2);
+            ring.drain(event -> drained.add(event.name), 1);
+        }
+
+        assertEquals(18, drained.size());
+        for (int i = 0; i < drained.size(); i++) {
+            assertEquals("event-" + i, drained.get(i));
+        }
+    }
+
+    @Test
+    void drainClearsSlots() {
+        EventRing ring = new EventRing(2);
+        StructuredEvent slot = ring.claim();
+        slot.name = "event";
+        slot.fields = new Object[] {"key", "value"};
+        ring.publish(slot);
+
+        ring.drain(event -> {}, 1);
+
+        assertNull(slot.name);
+        assertNull(slot.fields);
+    }
+
+    @Test
+    void everyAttemptIsEitherDrainedOrDropped() throws InterruptedException {
+        int producers = 4;
+        int attemptsPerProducer = 100_000;
+        EventRing ring = new EventRing(256);
+        AtomicLong dropped = new AtomicLong();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        long[] drained = new long[1];
+        long[] lastSequence = {-1};
+        boolean[] ordered = {true};
+
+        Thread consumer = new Thread(() -> {
+            while (true) {
+                boolean done = !producing.get();
+                int count = ring.drain(
+                        event -> {
+                            ordered[0] &= event.sequence == lastSequence[0] + 1;
+                            lastSequence[0] = event.sequence;
+                        },
+                        64);
+                drained[0] += count;
+                if (count == 0) {
+                    if (done) {
+                        return;
+                    }
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        consumer.start();
+
+        CountDownLatch finished = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            new Thread(() -> {
+                        for (int i = 0; i < attemptsPerProducer; i++) {
+                            StructuredEvent slot = ring.claim();
+                            if (slot == null) {
+                                dropped.incrementAndGet();
+                                continue;
+                            }
+                            slot.name = "event";
+                            ring.publish(slot);
+                        }
+                        finished.countDown();
+                    })
+                    .start();
+        }
+
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+        producing.set(false);
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertEquals((long) producers * attemptsPerProducer, drained[0] + dropped.get());
+        assertTrue(ordered[0]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.kaivu.vertxweb.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.kaivu.vertxweb.context.CorrelationContext;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EventSamplerTest {
+
+    @Test
+    void parsesRatePairs() {
+        Map<String, Double> rates = EventSampler.parseRates(" request_received = 0.5 ,service_operation_start=0.1");
+
+        assertEquals(Map.of("request_received", 0.5, "service_operation_start", 0.1), rates);
+    }
+
+    @Test
+    void parsesBlankSpecAsNoRates() {
+        assertTrue(EventSampler.parseRates(null).isEmpty());
+        assertTrue(EventSampler.parseRates("  ").isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedPairsAndRatesOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> EventSampler.parseRates("request_received"));
+        assertThrows(IllegalArgumentException.class, () -> EventSampler.parseRates("=0.5"));
+        assertThrows(IllegalArgumentException.class, () -> EventSampler.parseRates("request_received=1.5"));
+        assertThrows(IllegalArgumentException.class, () -> EventSampler.parseRates("request_received=-0.1"));
+    }
+
+    @Test
+    void discardsEventsBelowMinimumLevel() {
+        EventSampler sampler = new EventSampler(EventLevel.INFO, 1.0, Map.of(), 1000);
+
+        assertFalse(sampler.shouldRecord(EventLevel.DEBUG, "event", null, -1));
+        assertTrue(sampler.shouldRecord(EventLevel.INFO, "event", null, -1));
+    }
+
+    @Test
+    void alwaysKeepsErrorsAndSlowEvents() {
+        EventSampler sampler = new EventSampler(EventLevel.DEBUG, 0.0, Map.of("event", 0.0), 1000);
+
+        assertFalse(sampler.shouldRecord(EventLevel.INFO, "event", null, 999));
+        assertTrue(sampler.shouldRecord(EventLevel.ERROR, "event", null, -1));
+        assertTrue(sampler.shouldRecord(EventLevel.INFO, "event", null, 1000));
+    }
+
+    @Test
+    void appliesConfiguredRateBeforeDefault() {
+        EventSampler sampler = new EventSampler(EventLevel.DEBUG, 0.0, Map.of("kept", 1.0), 0);
+
+        assertTrue(sampler.shouldRecord(EventLevel.INFO, "kept", null, -1));
+        assertFalse(sampler.shouldRecord(EventLevel.INFO, "other", null, -1));
+    }
+
+    @Test
+    void samplesAllEventsOfOneRequestTogether() {
+        EventSampler sampler = new EventSampler(EventLevel.DEBUG, 0.5, Map.of(), 0);
+        CorrelationContext context = CorrelationContext.create();
+
+        boolean first = sampler.shouldRecord(EventLevel.INFO, "request_received", context, -1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, sampler.shouldRecord(EventLevel.INFO, "service_operation_start", context, -1));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.kaivu.vertxweb.patterns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_MS = 100;
+    private static final long STEADY_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long OVERLOADED_RTT = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void growsUnderSteadyRtt() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(20, 4, 1000, 0.2));
+
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, limiter.limit(), STEADY_RTT);
+            limits.add(limiter.limit());
+        }
+
+        // 20 + 0.2 * sqrt(20) rounds to 21, and so on by about 0.2 * sqrt(limit) per window
+        assertEquals(21, limits.get(0));
+        for (int i = 1; i < limits.size(); i++) {
+            assertTrue(limits.get(i) > limits.get(i - 1), "limit grows in every window: " + limits);
+        }
+    }
+
+    @Test
+    void doesNotGrowWhileMostOfLimitIsUnused() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(20, 4, 1000, 0.2));
+
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, 9, STEADY_RTT);
+        }
+        assertEquals(20, limiter.limit());
+
+        runWindow(limiter, 10, STEADY_RTT);
+        assertEquals(21, limiter.limit());
+    }
+
+    @Test
+    void shrinksByAtMostHalfUnderRisingRtt() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(100, 4, 1000, 1.0));
+        runWindow(limiter, limiter.limit(), STEADY_RTT);
+        int previous = limiter.limit();
+
+        long rtt = STEADY_RTT;
+        for (int i = 0; i < 5; i++) {
+            rtt *= 4;
+            runWindow(limiter, limiter.limit(), rtt);
+            int current = limiter.limit();
+            assertTrue(current < previous, "limit shrinks from " + previous + " to " + current);
+            assertTrue(current >= previous / 2, "limit at least halves from " + previous + " to " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void clampsToMinAndMax() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(20, 8, 25, 1.0));
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, limiter.limit(), STEADY_RTT);
+        }
+        assertEquals(25, limiter.limit());
+
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, limiter.limit(), OVERLOADED_RTT);
+        }
+        assertEquals(8, limiter.limit());
+    }
+
+    @Test
+    void keepsLimitUntilWindowHasEnoughSamples() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(20, 4, 1000, 1.0));
+
+        // Nine samples over a long time are not enough to close a window of ten
+        for (int i = 0; i < 9; i++) {
+            assertTrue(limiter.tryAcquire());
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MS));
+            limiter.release(OVERLOADED_RTT);
+        }
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void tracksInFlightAcrossAcquireAndRelease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(config(4, 1, 10, 0.2));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertEquals(4, limiter.inFlight());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.rejected());
+
+        limiter.release(STEADY_RTT);
+        assertEquals(3, limiter.inFlight());
+        assertTrue(limiter.tryAcquire());
+        assertEquals(4, limiter.inFlight());
+    }
+
+    @Test
+    void neverAdmitsMoreThanLimitUnderContention() throws InterruptedException {
+        // The clock does not move, so the limit stays at 8
+        AdaptiveConcurrencyLimiter limiter = limiter(config(8, 1, 100, 0.2));
+        AtomicBoolean overLimit = new AtomicBoolean();
+        AtomicLong admitted = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    if (limiter.tryAcquire()) {
+                        admitted.incrementAndGet();
+                        if (limiter.inFlight() > 8) {
+                            overLimit.set(true);
+                        }
+                        limiter.release(STEADY_RTT);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(overLimit.get());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(8 * 50_000L, admitted.get() + limiter.rejected());
+        assertEquals(8, limiter.limit());
+    }
+
+    // Admits `concurrency` requests at once, completes them all in `rttNanos`, then closes the window
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long rttNanos) {
+        for (int i = 0; i < concurrency; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < concurrency; i++) {
+            limiter.release(rttNanos);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MS));
+        assertTrue(limiter.tryAcquire());
+        limiter.release(rttNanos);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(ConcurrencyLimiterConfig config) {
+        return new AdaptiveConcurrencyLimiter("test", config, clock::get);
+    }
+
+    private static ConcurrencyLimiterConfig config(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        return new ConcurrencyLimiterConfig(initialLimit, minLimit, maxLimit, WINDOW_MS, 10, 1.5, smoothing);
+    }
+}
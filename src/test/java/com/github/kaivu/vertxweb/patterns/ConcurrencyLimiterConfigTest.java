@@ -0,0 +1,36 @@
+package com.github.kaivu.vertxweb.patterns;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterConfigTest {
+
+    @Test
+    void acceptsDefaultsAndBoundaryValues() {
+        assertDoesNotThrow(ConcurrencyLimiterConfig::defaultConfig);
+        assertDoesNotThrow(() -> new ConcurrencyLimiterConfig(1, 1, 1, 1, 1, 1.0, 1.0));
+    }
+
+    @Test
+    void rejectsInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class, () -> config(20, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> config(20, 50, 40));
+        assertThrows(IllegalArgumentException.class, () -> config(2, 4, 100));
+        assertThrows(IllegalArgumentException.class, () -> config(200, 4, 100));
+    }
+
+    @Test
+    void rejectsInvalidWindowAndGradientSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiterConfig(20, 4, 100, 0, 10, 1.5, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiterConfig(20, 4, 100, 100, 0, 1.5, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiterConfig(20, 4, 100, 100, 10, 0.9, 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiterConfig(20, 4, 100, 100, 10, 1.5, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiterConfig(20, 4, 100, 100, 10, 1.5, 1.1));
+    }
+
+    private static ConcurrencyLimiterConfig config(int initialLimit, int minLimit, int maxLimit) {
+        return new ConcurrencyLimiterConfig(initialLimit, minLimit, maxLimit, 100, 10, 1.5, 0.2);
+    }
+}
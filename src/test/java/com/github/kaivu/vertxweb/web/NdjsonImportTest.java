@@ -0,0 +1,283 @@
+package com.github.kaivu.vertxweb.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.kaivu.vertxweb.constants.AppConstants;
+import com.github.kaivu.vertxweb.web.exceptions.ServiceException;
+import com.github.kaivu.vertxweb.web.validation.ValidationRule;
+import com.github.kaivu.vertxweb.web.validation.Validator;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+class NdjsonImportTest {
+
+    private static final Validator NAME_REQUIRED = Validator.of(ValidationRule.required("name"));
+    private static final int MAX_LINE_BYTES = 1024;
+    private static final int MAX_ERRORS = 10;
+    private static final long MAX_BODY_BYTES = 1024 * 1024;
+
+    @Test
+    void joinsLinesSplitAcrossChunks(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"na", "me\":\"a\"}\n{\"name\"", ":\"b\"}\n");
+        List<List<String>> batches = new ArrayList<>();
+
+        run(vertx, body, recording(batches), 10, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(List.of(List.of("a", "b")), batches);
+                    assertEquals(2L, summary.getLong("lines"));
+                    assertEquals(2L, summary.getLong("imported"));
+                    assertEquals(0L, summary.getLong("failed"));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void stripsCarriageReturns(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\r\n\r\n{\"name\":\"b\"}\r\n");
+        List<List<String>> batches = new ArrayList<>();
+
+        run(vertx, body, recording(batches), 10, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(List.of(List.of("a", "b")), batches);
+                    assertEquals(3L, summary.getLong("lines"));
+                    assertEquals(0L, summary.getLong("failed"));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void importsLastLineWithoutNewline(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\n{\"name\":", "\"b\"}");
+        List<List<String>> batches = new ArrayList<>();
+
+        run(vertx, body, recording(batches), 10, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(List.of(List.of("a", "b")), batches);
+                    assertEquals(2L, summary.getLong("imported"));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void countsBlankLinesInReportedLineNumbers(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\n\n  \n{\"other\":1}\nnot json\n");
+
+        run(vertx, body, recording(new ArrayList<>()), 10, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(5L, summary.getLong("lines"));
+                    assertEquals(1L, summary.getLong("imported"));
+                    assertEquals(2L, summary.getLong("failed"));
+                    JsonArray errors = summary.getJsonArray("errors");
+                    assertEquals(4L, errors.getJsonObject(0).getLong("line"));
+                    assertEquals(5L, errors.getJsonObject(1).getLong("line"));
+                    assertEquals("Invalid JSON object", errors.getJsonObject(1).getString("error"));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void failsWithBadRequestOnLineOverLimit(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\n{\"name\":\"", "much too long for the limit\"}\n");
+
+        run(vertx, body, recording(new ArrayList<>()), 10, 20, MAX_BODY_BYTES)
+                .onComplete(testContext.failing(failure -> testContext.verify(() -> {
+                    ServiceException exception = assertInstanceOf(ServiceException.class, failure);
+                    assertEquals(AppConstants.Status.BAD_REQUEST, exception.getStatusCode());
+                    assertTrue(exception.getMessage().startsWith("Line 2 "));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void failsWithPayloadTooLargeOnceBodyExceedsLimit(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n", "{\"name\":\"c\"}\n");
+
+        run(vertx, body, recording(new ArrayList<>()), 10, MAX_LINE_BYTES, 30)
+                .onComplete(testContext.failing(failure -> testContext.verify(() -> {
+                    ServiceException exception = assertInstanceOf(ServiceException.class, failure);
+                    assertEquals(AppConstants.Status.PAYLOAD_TOO_LARGE, exception.getStatusCode());
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void reportsFailedBatchAgainstItsLines(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n{\"name\":\"d\"}\n");
+        Function<List<String>, Uni<?>> writer = records -> records.contains("c")
+                ? Uni.createFrom().failure(new IllegalStateException("Disk full"))
+                : Uni.createFrom().item(records);
+
+        run(vertx, body, writer, 2, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(2L, summary.getLong("imported"));
+                    assertEquals(2L, summary.getLong("failed"));
+                    assertEquals(
+                            new JsonArray()
+                                    .add(new JsonObject().put("line", 3L).put("error", "Disk full"))
+                                    .add(new JsonObject().put("line", 4L).put("error", "Disk full")),
+                            summary.getJsonArray("errors"));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void pausesBodyWhileBatchIsWritten(Vertx vertx, VertxTestContext testContext) {
+        FakeBody body = new FakeBody(
+                "{\"name\":\"a\"}\n",
+                "{\"name\":\"b\"}\n",
+                "{\"name\":\"c\"}\n",
+                "{\"name\":\"d\"}\n",
+                "{\"name\":\"e\"}");
+        Function<List<String>, Uni<?>> writer = records -> {
+            body.events.add("write " + records);
+            // Completes off the event loop, as a repository call would
+            return Uni.createFrom().item(records).onItem().delayIt().by(Duration.ofMillis(5));
+        };
+
+        run(vertx, body, writer, 2, MAX_LINE_BYTES, MAX_BODY_BYTES)
+                .onComplete(testContext.succeeding(summary -> testContext.verify(() -> {
+                    assertEquals(5L, summary.getLong("imported"));
+                    List<String> events = body.events;
+                    List<String> writes = new ArrayList<>();
+                    for (int i = 0; i < events.size(); i++) {
+                        if (!events.get(i).startsWith("write")) {
+                            continue;
+                        }
+                        writes.add(events.get(i));
+                        assertEquals("pause", events.get(i - 1), "body paused before " + events.get(i));
+                        for (int j = i + 1; j < events.size() && !events.get(j).equals("resume"); j++) {
+                            assertNotEquals("chunk", events.get(j), "chunk delivered during " + events.get(i));
+                        }
+                    }
+                    assertEquals(List.of("write [a, b]", "write [c, d]", "write [e]"), writes);
+                    testContext.completeNow();
+                })));
+    }
+
+    // Runs the import on a Vert.x context, as the product route does
+    private static Future<JsonObject> run(
+            Vertx vertx,
+            FakeBody body,
+            Function<List<String>, Uni<?>> writer,
+            int batchSize,
+            int maxLineBytes,
+            long maxBodyBytes) {
+        Promise<JsonObject> result = Promise.promise();
+        vertx.runOnContext(ignored -> new NdjsonImport<>(
+                        body,
+                        NAME_REQUIRED,
+                        record -> record.getString("name"),
+                        writer,
+                        batchSize,
+                        maxLineBytes,
+                        MAX_ERRORS,
+                        maxBodyBytes)
+                .run()
+                .subscribe()
+                .with(result::complete, result::fail));
+        return result.future();
+    }
+
+    private static Function<List<String>, Uni<?>> recording(List<List<String>> batches) {
+        return records -> {
+            batches.add(records);
+            return Uni.createFrom().item(records);
+        };
+    }
+
+    /**
+     * A request body that hands out its chunks, then its end, only while it is not paused, and records
+     * the calls it receives.
+     */
+    private static final class FakeBody implements ReadStream<Buffer> {
+
+        private final Deque<Buffer> chunks = new ArrayDeque<>();
+        private final List<String> events = new ArrayList<>();
+        private Handler<Buffer> handler;
+        private Handler<Void> endHandler;
+        private boolean paused = true;
+        private boolean delivering;
+        private boolean ended;
+
+        FakeBody(String... chunks) {
+            for (String chunk : chunks) {
+                this.chunks.add(Buffer.buffer(chunk));
+            }
+        }
+
+        @Override
+        public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> pause() {
+            paused = true;
+            events.add("pause");
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> resume() {
+            paused = false;
+            events.add("resume");
+            deliver();
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> fetch(long amount) {
+            return resume();
+        }
+
+        private void deliver() {
+            if (delivering) {
+                return;
+            }
+            delivering = true;
+            while (!paused && !chunks.isEmpty()) {
+                events.add("chunk");
+                handler.handle(chunks.poll());
+            }
+            if (!paused && !ended) {
+                ended = true;
+                events.add("end");
+                endHandler.handle(null);
+            }
+            delivering = false;
+        }
+    }
+}